@@ -24,7 +24,7 @@ import bloodnet.model.ReadOnlyUserPrefs;
 import bloodnet.model.UserPrefs;
 import bloodnet.model.util.SampleDataUtil;
 import bloodnet.storage.BloodNetStorage;
-import bloodnet.storage.JsonBloodNetStorage;
+import bloodnet.storage.JournaledBloodNetStorage;
 import bloodnet.storage.JsonUserPrefsStorage;
 import bloodnet.storage.Storage;
 import bloodnet.storage.StorageManager;
@@ -60,7 +60,10 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        BloodNetStorage bloodNetStorage = new JsonBloodNetStorage(userPrefs.getBloodNetFilePath());
+        // Without the journal, every save is a checkpoint, so a journal left behind is still read and merged
+        BloodNetStorage bloodNetStorage = new JournaledBloodNetStorage(userPrefs.getBloodNetFilePath(),
+                config.isJournalEnabled() ? JournaledBloodNetStorage.DEFAULT_CHECKPOINT_INTERVAL : 0,
+                config.isDataFilePrettyPrinted());
         storage = new StorageManager(bloodNetStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -86,13 +89,8 @@ public class MainApp extends Application {
                 logger.info("Creating a new data file " + storage.getBloodNetFilePath()
                         + " populated with a sample BloodNet.");
 
-                // We need to save the sample BloodNet data to the data file
-                // right away so that their UUIDs will be populated by the storage layer.
-                storage.saveBloodNet(getSampleBloodNet());
-
-                // Then, we need to read the data via the storage layer again
-                // because it will populate the person's name in every Donation Record
-                bloodNetOptional = storage.readBloodNet();
+                bloodNetOptional = Optional.of(getSampleBloodNet());
+                storage.saveBloodNet(bloodNetOptional.get());
             }
             initialData = bloodNetOptional.orElseGet(SampleDataUtil::getSampleBloodNet);
 
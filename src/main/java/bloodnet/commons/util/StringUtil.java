@@ -12,6 +12,11 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    public static final int SOUNDEX_LENGTH = 4;
+
+    /** The Soundex digit of each letter from A to Z, where 0 marks a letter that is not coded. */
+    private static final String SOUNDEX_DIGITS = "01230120022455012623010202";
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      * Ignores case, full word match is not required.
@@ -39,6 +44,49 @@ public class StringUtil {
                 .anyMatch(w -> w.toLowerCase().contains(preppedWord.toLowerCase()));
     }
 
+    /**
+     * Returns the Soundex code of {@code word}, so that words that sound alike share the same code.
+     * The code is the first letter of the word followed by three digits for the consonants after it.
+     * Characters other than the letters A to Z are ignored, and a word without any such letters has an empty code.
+     * <br>examples:<pre>
+     *       toSoundex("Jon") == toSoundex("John") == "J500"
+     *       toSoundex("Meier") == toSoundex("meyer") == "M600"
+     *       </pre>
+     *
+     * @param word cannot be null
+     */
+    public static String toSoundex(String word) {
+        requireNonNull(word);
+        StringBuilder code = new StringBuilder(SOUNDEX_LENGTH);
+        char previousDigit = 0;
+        for (char c : word.toUpperCase().toCharArray()) {
+            if (c < 'A' || c > 'Z') {
+                continue;
+            }
+            char digit = SOUNDEX_DIGITS.charAt(c - 'A');
+            if (code.length() == 0) {
+                code.append(c);
+            } else if (digit != '0' && digit != previousDigit) {
+                code.append(digit);
+                if (code.length() == SOUNDEX_LENGTH) {
+                    break;
+                }
+            }
+            // H and W do not separate consonants with the same digit, but vowels do.
+            if (c != 'H' && c != 'W') {
+                previousDigit = digit;
+            }
+        }
+
+        if (code.length() == 0) {
+            return "";
+        }
+        while (code.length() < SOUNDEX_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -7,7 +7,6 @@ import java.util.logging.Logger;
 
 import bloodnet.commons.core.GuiSettings;
 import bloodnet.commons.core.LogsCenter;
-import bloodnet.commons.exceptions.DataLoadingException;
 import bloodnet.logic.commands.Command;
 import bloodnet.logic.commands.InputResponse;
 import bloodnet.logic.commands.commandsessions.CommandSession;
@@ -39,6 +38,9 @@ public class LogicManager implements Logic {
 
     private CommandSession currentSession = null;
 
+    // The version of the bloodnet last written to storage, so that commands which change nothing are not saved
+    private long savedBloodNetVersion;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and
      * {@code Storage}.
@@ -47,6 +49,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         bloodNetParser = new BloodNetParser();
+        savedBloodNetVersion = model.getBloodNet().getVersion();
     }
 
     /**
@@ -57,6 +60,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         this.bloodNetParser = bloodNetParser;
+        savedBloodNetVersion = model.getBloodNet().getVersion();
     }
 
     @Override
@@ -97,22 +101,19 @@ public class LogicManager implements Logic {
     }
 
     private void saveBloodNetSafely() throws CommandException {
+        long version = model.getBloodNet().getVersion();
+        if (version == savedBloodNetVersion) {
+            return;
+        }
+
         try {
             storage.saveBloodNet(model.getBloodNet());
-
-            // Reload bloodnet model with the latest data from storage.
-            // This way, the ID of newly created objects will be populated in the model
-            // The current model is used as a fallback in the event loading from storage fails
-            ReadOnlyBloodNet latestBloodNet = storage.readBloodNet().orElse(model.getBloodNet());
-            model.setBloodNet(latestBloodNet);
-
+            savedBloodNetVersion = version;
         } catch (AccessDeniedException e) {
             throw new CommandException(
                     String.format(StorageManager.FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(StorageManager.FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
-        } catch (DataLoadingException e) {
-            throw new CommandException("Data file at " + storage.getBloodNetFilePath() + " could not be reloaded.");
         }
     }
 
@@ -27,12 +27,16 @@ public class Messages {
     public static final String MESSAGE_PEOPLE_LISTED_OVERVIEW = "%d donor%s listed!";
     // For the second placeholder, pass in '' if singular, 's' if plural
     public static final String MESSAGE_DONATIONS_LISTED_OVERVIEW = "%d donation record%s related to %s found!";
+    // For the second placeholder, pass in '' if singular, 's' if plural
+    public static final String MESSAGE_DONATIONS_BETWEEN_LISTED_OVERVIEW =
+            "%d donation record%s from %s to %s found!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_PERSON_NOT_FOUND =
             "No donor found for the given donation record.";
     public static final String MESSAGE_DATE_OF_BIRTH_TOO_OLD = "The date of birth should be a valid date "
             + "of the format DD-MM-YYYY, not in the future, and not before %s.";
+    public static final String MESSAGE_START_DATE_AFTER_END_DATE = "The start date cannot be after the end date.";
     /**
      * Returns an error message indicating the duplicate prefixes.
      */
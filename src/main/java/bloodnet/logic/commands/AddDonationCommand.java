@@ -72,8 +72,7 @@ public class AddDonationCommand extends Command {
 
         DonationRecord donationRecord = new DonationRecord(null, personId, donationDate, bloodVolume);
 
-        ArrayList<String> validationErrorStrings = donationRecord.validate(model.getBloodNet().getPersonList(),
-                                                                           model.getBloodNet().getDonationRecordList());
+        ArrayList<String> validationErrorStrings = donationRecord.validate(model.getBloodNet());
         if (!validationErrorStrings.isEmpty()) {
             String concatenatedMessage = MESSAGE_CONCATENATED_VALIDATION_ERRORS_HEADER;
             for (String validationErrorString : validationErrorStrings) {
@@ -9,13 +9,15 @@ import java.util.LinkedHashMap;
 public class AllCommands {
 
     public static final CommandInformation[] ALL_COMMANDS = { ListCommand.COMMAND_INFORMATION,
-            FindCommand.COMMAND_INFORMATION,
+            FindCommand.COMMAND_INFORMATION, FindPartialCommand.COMMAND_INFORMATION,
+            FindSimilarCommand.COMMAND_INFORMATION, LookupCommand.COMMAND_INFORMATION,
             AddCommand.COMMAND_INFORMATION,
             EditCommand.COMMAND_INFORMATION, DeleteCommand.COMMAND_INFORMATION,
-            FindDonationsCommand.COMMAND_INFORMATION,
+            FindDonationsCommand.COMMAND_INFORMATION, FindDonationsBetweenCommand.COMMAND_INFORMATION,
             AddDonationCommand.COMMAND_INFORMATION, EditDonationCommand.COMMAND_INFORMATION,
             DeleteDonationCommand.COMMAND_INFORMATION,
-            FindEligibleCommand.COMMAND_INFORMATION,
+            FindEligibleCommand.COMMAND_INFORMATION, StatsCommand.COMMAND_INFORMATION,
+            TrendsCommand.COMMAND_INFORMATION,
             ClearCommand.COMMAND_INFORMATION,
             HelpCommand.COMMAND_INFORMATION, ExitCommand.COMMAND_INFORMATION};
 
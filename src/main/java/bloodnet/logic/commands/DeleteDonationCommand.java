@@ -105,13 +105,8 @@ public class DeleteDonationCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
 
-        for (Person person : model.getBloodNet().getPersonList()) {
-            if (person.getId().equals(personId)) {
-                return person;
-            }
-        }
-
-        throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND);
+        return model.getBloodNet().getPersonById(personId)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND));
     }
 
     public static String getMessageUsage() {
@@ -71,9 +71,7 @@ public class EditDonationCommand extends Command {
         DonationRecord recordToEdit = getDonationRecordToEdit(model);
         Person personForRecordEdit = getPersonToEditRecordFor(model, recordToEdit);
         DonationRecord editedDonationRecord = createEditedDonationRecord(recordToEdit, editDonationRecordDescriptor);
-        ArrayList<String> validationErrorStrings = editedDonationRecord
-                                                        .validate(model.getBloodNet().getPersonList(),
-                                                                  model.getBloodNet().getDonationRecordList());
+        ArrayList<String> validationErrorStrings = editedDonationRecord.validate(model.getBloodNet());
         if (!validationErrorStrings.isEmpty()) {
             String concatenatedMessage = MESSAGE_CONCATENATED_VALIDATION_ERRORS_HEADER;
             for (String validationErrorString : validationErrorStrings) {
@@ -121,14 +119,8 @@ public class EditDonationCommand extends Command {
     private Person getPersonToEditRecordFor(Model model, DonationRecord donationRecord) throws CommandException {
         requireNonNull(model);
         requireNonNull(donationRecord);
-        List<Person> personList = model.getBloodNet().getPersonList();
-        Optional<Person> optionalPerson = personList.stream()
-                .filter(person -> person.getId().equals(donationRecord.getPersonId())).findFirst();
-
-        if (optionalPerson.isPresent()) {
-            return optionalPerson.get();
-        }
-        throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND);
+        return model.getBloodNet().getPersonById(donationRecord.getPersonId())
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND));
     }
 
     @Override
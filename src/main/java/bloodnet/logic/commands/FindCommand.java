@@ -1,14 +1,26 @@
 package bloodnet.logic.commands;
 
+import static bloodnet.logic.parser.CliSyntax.PREFIX_AGE_RANGE;
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 import bloodnet.commons.util.ToStringBuilder;
 import bloodnet.logic.Messages;
 import bloodnet.model.Model;
+import bloodnet.model.ReadOnlyBloodNet;
+import bloodnet.model.donationrecord.DonationDate;
+import bloodnet.model.person.AgeRange;
+import bloodnet.model.person.IsOneOfPersonsPredicate;
 import bloodnet.model.person.NameContainsKeywordsPredicate;
+import bloodnet.model.person.Person;
 
 /**
- * Finds and lists all donors in BloodNet whose name contains any of the argument keywords.
+ * Finds and lists all donors in BloodNet whose name contains any of the argument keywords,
+ * optionally only those within an age range.
  * Note that keyword matching is case-insensitive.
  */
 public class FindCommand extends Command {
@@ -18,24 +30,57 @@ public class FindCommand extends Command {
     public static final CommandInformation COMMAND_INFORMATION = new CommandInformation(COMMAND_WORD,
             "Finds all donors whose names contain any of the specified keywords "
                     + "(case-insensitive) and displays them as a "
-                    + "list with index numbers.", "Parameters: KEYWORD...",
-            "Example: " + COMMAND_WORD + " alice bob charlie");
+                    + "list with index numbers. If an age range is specified, only donors whose ages are "
+                    + "within it are listed, and the keywords may be left out.",
+            "Parameters: KEYWORD... [" + PREFIX_AGE_RANGE + "MIN_AGE-MAX_AGE]",
+            "Example: " + COMMAND_WORD + " alice bob charlie " + PREFIX_AGE_RANGE + "18-25");
 
     private final NameContainsKeywordsPredicate predicate;
+    private final AgeRange ageRange;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, null);
+    }
+
+    /**
+     * Creates a FindCommand to find the donors matching {@code predicate} whose ages are within {@code ageRange}.
+     * If {@code ageRange} is null, donors of every age are found.
+     * If {@code predicate} has no keywords, every donor within {@code ageRange} is found.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, AgeRange ageRange) {
+        requireNonNull(predicate);
         this.predicate = predicate;
+        this.ageRange = ageRange;
     }
 
     @Override
     public InputResponse execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        int filteredPersonListSize = model.getFilteredPersonList().size();
+        ReadOnlyBloodNet bloodNet = model.getBloodNet();
+        if (ageRange == null) {
+            // Only the persons found through the name index are shown, so no name is tested.
+            model.updateFilteredPersonList(
+                    new IsOneOfPersonsPredicate(bloodNet.findPersonsByNameKeywords(predicate.getKeywords())));
+        } else if (predicate.getKeywords().isEmpty()) {
+            // Only the persons found through the date of birth index are shown, so no age is computed.
+            LocalDate today = DonationDate.getTodayDate().getValue();
+            model.updateFilteredPersonList(new IsOneOfPersonsPredicate(bloodNet.getPersonsInAgeRange(ageRange, today)));
+        } else {
+            // Only the persons found through the name index have their ages checked.
+            LocalDate today = DonationDate.getTodayDate().getValue();
+            List<Person> matchingPersons = new ArrayList<>();
+            for (Person person : bloodNet.findPersonsByNameKeywords(predicate.getKeywords())) {
+                if (ageRange.contains(person.getDateOfBirth().getValue(), today)) {
+                    matchingPersons.add(person);
+                }
+            }
+            model.updateFilteredPersonList(new IsOneOfPersonsPredicate(matchingPersons));
+        }
+        int matchCount = model.getFilteredPersonList().size();
         return new InputResponse(
                 String.format(Messages.MESSAGE_PEOPLE_LISTED_OVERVIEW,
-                        filteredPersonListSize,
-                        filteredPersonListSize == 1 ? "" : "s"));
+                        matchCount,
+                        matchCount == 1 ? "" : "s"));
     }
 
     @Override
@@ -50,13 +95,15 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && Objects.equals(ageRange, otherFindCommand.ageRange);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("ageRange", ageRange)
                 .toString();
     }
 
@@ -0,0 +1,115 @@
+package bloodnet.logic.commands;
+
+import static bloodnet.commons.util.CollectionUtil.requireAllNonNull;
+import static bloodnet.logic.parser.CliSyntax.DATE_FORMAT;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_BLOOD_TYPE;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import bloodnet.commons.util.ToStringBuilder;
+import bloodnet.logic.Messages;
+import bloodnet.model.Model;
+import bloodnet.model.ReadOnlyBloodNet;
+import bloodnet.model.donationrecord.DonationDate;
+import bloodnet.model.donationrecord.DonationRecord;
+import bloodnet.model.donationrecord.IsOneOfDonationRecordsPredicate;
+import bloodnet.model.person.BloodType;
+
+/**
+ * Finds and lists all donation records in BloodNet with donation dates in the given range,
+ * optionally only those of donors with any of the given blood types.
+ */
+public class FindDonationsBetweenCommand extends Command {
+
+    public static final String COMMAND_WORD = "finddonationsbetween";
+
+    public static final CommandInformation COMMAND_INFORMATION = new CommandInformation(COMMAND_WORD,
+            "Finds all donation records with donation dates from the start date to the end date, both inclusive. "
+                    + "If blood types are specified, only donation records of donors with any of those "
+                    + "blood types are listed.",
+            "Parameters: " + PREFIX_START_DATE + "START_DATE_" + DATE_FORMAT + " "
+                    + PREFIX_END_DATE + "END_DATE_" + DATE_FORMAT + " "
+                    + "[" + PREFIX_BLOOD_TYPE + "BLOOD_TYPE]...",
+            "Example: " + COMMAND_WORD + " "
+                    + PREFIX_START_DATE + "01-01-2025 "
+                    + PREFIX_END_DATE + "31-03-2025 "
+                    + PREFIX_BLOOD_TYPE + "O+");
+
+    private final DonationDate startDate;
+    private final DonationDate endDate;
+    private final Set<BloodType.Kind> bloodTypeKinds;
+
+    /**
+     * Creates a FindDonationsBetweenCommand to find the donation records from {@code startDate} to
+     * {@code endDate} of donors with any of {@code bloodTypeKinds}, or of all donors if it is empty.
+     */
+    public FindDonationsBetweenCommand(DonationDate startDate, DonationDate endDate,
+                                       Set<BloodType.Kind> bloodTypeKinds) {
+        requireAllNonNull(startDate, endDate, bloodTypeKinds);
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.bloodTypeKinds = bloodTypeKinds;
+    }
+
+    @Override
+    public InputResponse execute(Model model) {
+        requireNonNull(model);
+        ReadOnlyBloodNet bloodNet = model.getBloodNet();
+        // Only the donation records found through the date index are checked and shown.
+        List<DonationRecord> matchingDonationRecords = new ArrayList<>();
+        for (DonationRecord donationRecord : bloodNet.getDonationRecordsBetween(startDate.getValue(),
+                endDate.getValue())) {
+            if (bloodTypeKinds.isEmpty() || hasDonorWithMatchingBloodType(bloodNet, donationRecord)) {
+                matchingDonationRecords.add(donationRecord);
+            }
+        }
+        model.updateFilteredDonationRecordList(new IsOneOfDonationRecordsPredicate(matchingDonationRecords));
+        int matchCount = model.getFilteredDonationRecordList().size();
+        return new InputResponse(
+                String.format(Messages.MESSAGE_DONATIONS_BETWEEN_LISTED_OVERVIEW,
+                        matchCount,
+                        matchCount == 1 ? "" : "s",
+                        startDate, endDate));
+    }
+
+    private boolean hasDonorWithMatchingBloodType(ReadOnlyBloodNet bloodNet, DonationRecord donationRecord) {
+        return bloodNet.getPersonById(donationRecord.getPersonId())
+                .map(person -> bloodTypeKinds.contains(person.getBloodType().getKind()))
+                .orElse(false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindDonationsBetweenCommand)) {
+            return false;
+        }
+
+        FindDonationsBetweenCommand otherCommand = (FindDonationsBetweenCommand) other;
+        return startDate.equals(otherCommand.startDate)
+                && endDate.equals(otherCommand.endDate)
+                && bloodTypeKinds.equals(otherCommand.bloodTypeKinds);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .add("bloodTypes", bloodTypeKinds)
+                .toString();
+    }
+
+    public static String getMessageUsage() {
+        return COMMAND_INFORMATION.getMessageUsage();
+    }
+}
@@ -1,16 +1,23 @@
 package bloodnet.logic.commands;
 
+import static bloodnet.logic.parser.CliSyntax.PREFIX_AGE_RANGE;
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import bloodnet.commons.util.ToStringBuilder;
 import bloodnet.logic.Messages;
 import bloodnet.model.Model;
+import bloodnet.model.ReadOnlyBloodNet;
 import bloodnet.model.donationrecord.DonationDate;
-import bloodnet.model.person.HasBloodTypeAndIsEligibleToDonatePredicate;
+import bloodnet.model.person.AgeRange;
+import bloodnet.model.person.BloodType;
 import bloodnet.model.person.HasBloodTypePredicate;
-import bloodnet.model.person.IsEligibleToDonatePredicate;
+import bloodnet.model.person.IsOneOfPersonsPredicate;
+import bloodnet.model.person.Person;
 
 /**
  * Finds and lists all eligible persons based on blood type, date of birth
@@ -27,26 +34,52 @@ public class FindEligibleCommand extends Command {
                     + "donation date must be strictly before their 61st birthday. For returning donors, they must have "
                     + "made a previous donation within the last 3 years from the donation date (inclusive of "
                     + "that donation date), and the donation date must be strictly before their 66th birthday."
-                    + " In addition, there must be a minimum of 84 days between any two consecutive donations.",
-            "Parameters: BLOOD_TYPE...", "Example: " + COMMAND_WORD + " O+ A+ B+");
+                    + " In addition, there must be a minimum of 84 days between any two consecutive donations."
+                    + " If an age range is specified, only eligible donors whose ages are within it are listed.",
+            "Parameters: BLOOD_TYPE... [" + PREFIX_AGE_RANGE + "MIN_AGE-MAX_AGE]",
+            "Example: " + COMMAND_WORD + " O+ A+ B+ " + PREFIX_AGE_RANGE + "18-25");
 
     private final List<String> enteredBloodTypes;
+    private final AgeRange ageRange;
 
     public FindEligibleCommand(List<String> enteredBloodTypes) {
+        this(enteredBloodTypes, null);
+    }
+
+    /**
+     * Creates a FindEligibleCommand to find the eligible donors with any of {@code enteredBloodTypes}
+     * whose ages are within {@code ageRange}. If {@code ageRange} is null, donors of every age are found.
+     */
+    public FindEligibleCommand(List<String> enteredBloodTypes, AgeRange ageRange) {
         this.enteredBloodTypes = enteredBloodTypes;
+        this.ageRange = ageRange;
     }
 
     @Override
     public InputResponse execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(new HasBloodTypeAndIsEligibleToDonatePredicate(
-                new HasBloodTypePredicate(enteredBloodTypes),
-                new IsEligibleToDonatePredicate(model, DonationDate.getTodayDate())));
-        int filteredPersonListSize = model.getFilteredPersonList().size();
+        ReadOnlyBloodNet bloodNet = model.getBloodNet();
+
+        // Only the donors in the partitions of the entered blood types are visited and shown, and each of them
+        // is checked against their stored eligibility window and date of birth instead of their donations.
+        LocalDate today = DonationDate.getTodayDate().getValue();
+        HasBloodTypePredicate bloodTypePredicate = new HasBloodTypePredicate(enteredBloodTypes);
+        List<Person> matchingPersons = new ArrayList<>();
+        for (BloodType.Kind kind : bloodTypePredicate.getBloodTypeKinds()) {
+            for (Person person : bloodNet.getPersonsWithBloodType(kind)) {
+                if (bloodNet.isEligibleToDonate(person, today)
+                        && (ageRange == null || ageRange.contains(person.getDateOfBirth().getValue(), today))) {
+                    matchingPersons.add(person);
+                }
+            }
+        }
+
+        model.updateFilteredPersonList(new IsOneOfPersonsPredicate(matchingPersons));
+        int matchCount = model.getFilteredPersonList().size();
         return new InputResponse(
                 String.format(Messages.MESSAGE_PEOPLE_LISTED_OVERVIEW,
-                        filteredPersonListSize,
-                        filteredPersonListSize == 1 ? "" : "s"));
+                        matchCount,
+                        matchCount == 1 ? "" : "s"));
     }
 
     @Override
@@ -61,13 +94,15 @@ public class FindEligibleCommand extends Command {
         }
 
         FindEligibleCommand otherFindCommand = (FindEligibleCommand) other;
-        return enteredBloodTypes.equals(otherFindCommand.enteredBloodTypes);
+        return enteredBloodTypes.equals(otherFindCommand.enteredBloodTypes)
+                && Objects.equals(ageRange, otherFindCommand.ageRange);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("bloodTypes", enteredBloodTypes)
+                .add("ageRange", ageRange)
                 .toString();
     }
 
@@ -0,0 +1,81 @@
+package bloodnet.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import bloodnet.commons.util.ToStringBuilder;
+import bloodnet.logic.Messages;
+import bloodnet.model.Model;
+import bloodnet.model.person.IsOneOfPersonsPredicate;
+import bloodnet.model.person.Person;
+
+/**
+ * Finds and lists all donors in BloodNet whose name partially matches the argument,
+ * with the closest matches listed first.
+ * Note that matching is case-insensitive.
+ */
+public class FindPartialCommand extends Command {
+
+    public static final String COMMAND_WORD = "findpartial";
+
+    public static final CommandInformation COMMAND_INFORMATION = new CommandInformation(COMMAND_WORD,
+            "Finds all donors whose names partially match the specified text "
+                    + "(case-insensitive) and displays them as a list with index numbers, "
+                    + "with the closest matches listed first. The text can be any part of a name, "
+                    + "and names that match most, but not all, of it are also listed.",
+            "Parameters: PARTIAL_NAME",
+            "Example: " + COMMAND_WORD + " lice pau");
+
+    private final String partialName;
+
+    public FindPartialCommand(String partialName) {
+        this.partialName = partialName;
+    }
+
+    @Override
+    public InputResponse execute(Model model) {
+        requireNonNull(model);
+        // Only the persons found through the trigram index are shown, ordered by the overlaps it worked out.
+        Map<Person, Integer> overlaps = model.getBloodNet().findPersonsByPartialName(partialName);
+        Map<UUID, Integer> overlapsById = new HashMap<>();
+        overlaps.forEach((person, overlap) -> overlapsById.put(person.getId(), overlap));
+        Comparator<Person> closestMatchFirst =
+                Comparator.<Person>comparingInt(person -> overlapsById.get(person.getId())).reversed();
+        model.updateFilteredPersonList(new IsOneOfPersonsPredicate(overlaps.keySet()), closestMatchFirst);
+        int matchCount = model.getFilteredPersonList().size();
+        return new InputResponse(
+                String.format(Messages.MESSAGE_PEOPLE_LISTED_OVERVIEW,
+                        matchCount,
+                        matchCount == 1 ? "" : "s"));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindPartialCommand)) {
+            return false;
+        }
+
+        FindPartialCommand otherFindPartialCommand = (FindPartialCommand) other;
+        return partialName.equals(otherFindPartialCommand.partialName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("partialName", partialName)
+                .toString();
+    }
+
+    public static String getMessageUsage() {
+        return COMMAND_INFORMATION.getMessageUsage();
+    }
+}
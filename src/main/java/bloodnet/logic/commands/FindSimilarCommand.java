@@ -0,0 +1,70 @@
+package bloodnet.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import bloodnet.commons.util.ToStringBuilder;
+import bloodnet.logic.Messages;
+import bloodnet.model.Model;
+import bloodnet.model.person.IsOneOfPersonsPredicate;
+
+/**
+ * Finds and lists all donors in BloodNet whose name has a word that sounds like any of the argument keywords.
+ * Note that keyword matching is case-insensitive.
+ */
+public class FindSimilarCommand extends Command {
+
+    public static final String COMMAND_WORD = "findsimilar";
+
+    public static final CommandInformation COMMAND_INFORMATION = new CommandInformation(COMMAND_WORD,
+            "Finds all donors whose names have a word that sounds like any of the specified keywords "
+                    + "(case-insensitive) and displays them as a "
+                    + "list with index numbers.", "Parameters: KEYWORD...",
+            "Example: " + COMMAND_WORD + " jon tan");
+
+    private final List<String> keywords;
+
+    public FindSimilarCommand(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    @Override
+    public InputResponse execute(Model model) {
+        requireNonNull(model);
+        // Only the persons found through the phonetic index are shown, so no name is coded.
+        model.updateFilteredPersonList(
+                new IsOneOfPersonsPredicate(model.getBloodNet().findPersonsBySimilarName(keywords)));
+        int matchCount = model.getFilteredPersonList().size();
+        return new InputResponse(
+                String.format(Messages.MESSAGE_PEOPLE_LISTED_OVERVIEW,
+                        matchCount,
+                        matchCount == 1 ? "" : "s"));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindSimilarCommand)) {
+            return false;
+        }
+
+        FindSimilarCommand otherFindSimilarCommand = (FindSimilarCommand) other;
+        return keywords.equals(otherFindSimilarCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+
+    public static String getMessageUsage() {
+        return COMMAND_INFORMATION.getMessageUsage();
+    }
+}
@@ -0,0 +1,96 @@
+package bloodnet.logic.commands;
+
+import static bloodnet.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_PHONE;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import bloodnet.commons.util.ToStringBuilder;
+import bloodnet.logic.Messages;
+import bloodnet.model.Model;
+import bloodnet.model.ReadOnlyBloodNet;
+import bloodnet.model.person.Email;
+import bloodnet.model.person.IsOneOfPersonsPredicate;
+import bloodnet.model.person.Person;
+import bloodnet.model.person.Phone;
+
+/**
+ * Finds and lists all donors in BloodNet with exactly the given phone number or email.
+ */
+public class LookupCommand extends Command {
+
+    public static final String COMMAND_WORD = "lookup";
+
+    public static final CommandInformation COMMAND_INFORMATION = new CommandInformation(COMMAND_WORD,
+            "Finds all donors with exactly the specified phone number or email "
+                    + "and displays them as a list with index numbers. "
+                    + "At least one of the phone number or email must be provided.",
+            "Parameters: "
+                    + "[" + PREFIX_PHONE + "PHONE] "
+                    + "[" + PREFIX_EMAIL + "EMAIL]",
+            "Example: " + COMMAND_WORD + " " + PREFIX_PHONE + "98765432");
+
+    private final Phone phone;
+    private final Email email;
+
+    /**
+     * Creates a LookupCommand to find the donors with {@code phone} or {@code email}.
+     * Either one may be null, but not both.
+     */
+    public LookupCommand(Phone phone, Email email) {
+        assert phone != null || email != null;
+        this.phone = phone;
+        this.email = email;
+    }
+
+    @Override
+    public InputResponse execute(Model model) {
+        requireNonNull(model);
+        ReadOnlyBloodNet bloodNet = model.getBloodNet();
+        // Only the persons found through the contact indexes are shown, so no other contact is compared.
+        List<Person> matchingPersons = new ArrayList<>();
+        if (phone != null) {
+            matchingPersons.addAll(bloodNet.findPersonsByPhone(phone));
+        }
+        if (email != null) {
+            matchingPersons.addAll(bloodNet.findPersonsByEmail(email));
+        }
+        model.updateFilteredPersonList(new IsOneOfPersonsPredicate(matchingPersons));
+        int matchCount = model.getFilteredPersonList().size();
+        return new InputResponse(
+                String.format(Messages.MESSAGE_PEOPLE_LISTED_OVERVIEW,
+                        matchCount,
+                        matchCount == 1 ? "" : "s"));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LookupCommand)) {
+            return false;
+        }
+
+        LookupCommand otherLookupCommand = (LookupCommand) other;
+        return Objects.equals(phone, otherLookupCommand.phone)
+                && Objects.equals(email, otherLookupCommand.email);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("phone", phone)
+                .add("email", email)
+                .toString();
+    }
+
+    public static String getMessageUsage() {
+        return COMMAND_INFORMATION.getMessageUsage();
+    }
+}
@@ -0,0 +1,116 @@
+package bloodnet.logic.commands;
+
+import static bloodnet.commons.util.CollectionUtil.requireAllNonNull;
+import static bloodnet.logic.parser.CliSyntax.DATE_FORMAT;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_BLOOD_TYPE;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import bloodnet.commons.util.ToStringBuilder;
+import bloodnet.model.InventoryTotals;
+import bloodnet.model.Model;
+import bloodnet.model.ReadOnlyBloodNet;
+import bloodnet.model.donationrecord.DonationDate;
+import bloodnet.model.person.BloodType;
+
+/**
+ * Shows the number of donations and the total volume of blood collected per blood type in a range of dates.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final CommandInformation COMMAND_INFORMATION = new CommandInformation(COMMAND_WORD,
+            "Shows the number of donations and the total volume of blood collected for each blood type "
+                    + "from the start date to the end date, both inclusive. "
+                    + "If blood types are specified, only those blood types are shown.",
+            "Parameters: " + PREFIX_START_DATE + "START_DATE_" + DATE_FORMAT + " "
+                    + PREFIX_END_DATE + "END_DATE_" + DATE_FORMAT + " "
+                    + "[" + PREFIX_BLOOD_TYPE + "BLOOD_TYPE]...",
+            "Example: " + COMMAND_WORD + " "
+                    + PREFIX_START_DATE + "01-10-2025 "
+                    + PREFIX_END_DATE + "31-10-2025 "
+                    + PREFIX_BLOOD_TYPE + "O-");
+
+    public static final String MESSAGE_SUCCESS = "Donations collected from %s to %s:\n%s";
+    // For the third placeholder, pass in '' if singular, 's' if plural
+    public static final String MESSAGE_TOTALS = "%s: %d donation%s, %d ml";
+    public static final String TOTAL_LABEL = "Total";
+
+    private final DonationDate startDate;
+    private final DonationDate endDate;
+    private final Set<BloodType.Kind> bloodTypeKinds;
+
+    /**
+     * Creates a StatsCommand to show the totals from {@code startDate} to {@code endDate} of the blood types
+     * in {@code bloodTypeKinds}, or of every blood type if it is empty.
+     */
+    public StatsCommand(DonationDate startDate, DonationDate endDate, Set<BloodType.Kind> bloodTypeKinds) {
+        requireAllNonNull(startDate, endDate, bloodTypeKinds);
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.bloodTypeKinds = bloodTypeKinds;
+    }
+
+    @Override
+    public InputResponse execute(Model model) {
+        requireNonNull(model);
+        ReadOnlyBloodNet bloodNet = model.getBloodNet();
+        Set<BloodType.Kind> kindsToShow = bloodTypeKinds.isEmpty()
+                ? EnumSet.allOf(BloodType.Kind.class)
+                : EnumSet.copyOf(bloodTypeKinds);
+
+        StringBuilder totalsByBloodType = new StringBuilder();
+        InventoryTotals overallTotals = InventoryTotals.NONE;
+        for (BloodType.Kind kind : kindsToShow) {
+            InventoryTotals totals = bloodNet.getInventoryTotals(kind, startDate.getValue(), endDate.getValue());
+            totalsByBloodType.append(formatTotals(kind.getLabel(), totals)).append("\n");
+            overallTotals = overallTotals.plus(totals);
+        }
+        totalsByBloodType.append(formatTotals(TOTAL_LABEL, overallTotals));
+
+        return new InputResponse(String.format(MESSAGE_SUCCESS, startDate, endDate, totalsByBloodType));
+    }
+
+    /**
+     * Formats {@code totals} for display to the user, under {@code label}.
+     */
+    public static String formatTotals(String label, InventoryTotals totals) {
+        return String.format(MESSAGE_TOTALS, label, totals.getDonationCount(),
+                totals.getDonationCount() == 1 ? "" : "s", totals.getBloodVolume());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherCommand = (StatsCommand) other;
+        return startDate.equals(otherCommand.startDate)
+                && endDate.equals(otherCommand.endDate)
+                && bloodTypeKinds.equals(otherCommand.bloodTypeKinds);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .add("bloodTypes", bloodTypeKinds)
+                .toString();
+    }
+
+    public static String getMessageUsage() {
+        return COMMAND_INFORMATION.getMessageUsage();
+    }
+}
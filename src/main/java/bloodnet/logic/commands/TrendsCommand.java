@@ -0,0 +1,162 @@
+package bloodnet.logic.commands;
+
+import static bloodnet.commons.util.CollectionUtil.requireAllNonNull;
+import static bloodnet.logic.parser.CliSyntax.DATE_FORMAT;
+import static bloodnet.logic.parser.CliSyntax.POSITIVE_INTEGER_FORMAT;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_PERIOD_LENGTH;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import bloodnet.commons.util.ToStringBuilder;
+import bloodnet.model.InventoryTotals;
+import bloodnet.model.Model;
+import bloodnet.model.ReadOnlyBloodNet;
+import bloodnet.model.donationrecord.DonationColumns;
+import bloodnet.model.donationrecord.DonationDate;
+import bloodnet.model.person.Person;
+
+/**
+ * Shows how the donations in a range of dates were spread out: their totals, the number of donations in each
+ * period of a given length, and the donors who donated the most often.
+ */
+public class TrendsCommand extends Command {
+
+    public static final String COMMAND_WORD = "trends";
+
+    public static final int DEFAULT_PERIOD_LENGTH = 30;
+    public static final int MAX_DONORS_SHOWN = 5;
+
+    public static final CommandInformation COMMAND_INFORMATION = new CommandInformation(COMMAND_WORD,
+            "Shows the number of donations and the total volume of blood collected from the start date to the "
+                    + "end date, both inclusive, the number of donations in each period of the given number of "
+                    + "days (" + DEFAULT_PERIOD_LENGTH + " if not specified), and the " + MAX_DONORS_SHOWN
+                    + " donors who donated the most often.",
+            "Parameters: " + PREFIX_START_DATE + "START_DATE_" + DATE_FORMAT + " "
+                    + PREFIX_END_DATE + "END_DATE_" + DATE_FORMAT + " "
+                    + "[" + PREFIX_PERIOD_LENGTH + "PERIOD_LENGTH_IN_DAYS_" + POSITIVE_INTEGER_FORMAT + "]",
+            "Example: " + COMMAND_WORD + " "
+                    + PREFIX_START_DATE + "01-01-2025 "
+                    + PREFIX_END_DATE + "31-12-2025 "
+                    + PREFIX_PERIOD_LENGTH + "30");
+
+    public static final String MESSAGE_SUCCESS =
+            "Donations collected from %s to %s:\n%s\nDonations per %d days:\n%s\nMost frequent donors:\n%s";
+    // For the last placeholder, pass in '' if singular, 's' if plural
+    public static final String MESSAGE_PERIOD = "%s to %s: %d donation%s";
+    // For the last placeholder, pass in '' if singular, 's' if plural
+    public static final String MESSAGE_DONOR = "%s: %d donation%s";
+    public static final String MESSAGE_NO_DONORS = "None";
+
+    private final DonationDate startDate;
+    private final DonationDate endDate;
+    private final int periodLength;
+
+    /**
+     * Creates a TrendsCommand to show the donations from {@code startDate} to {@code endDate} in periods of
+     * {@code periodLength} days.
+     */
+    public TrendsCommand(DonationDate startDate, DonationDate endDate, int periodLength) {
+        requireAllNonNull(startDate, endDate);
+        assert periodLength > 0;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.periodLength = periodLength;
+    }
+
+    @Override
+    public InputResponse execute(Model model) {
+        requireNonNull(model);
+        ReadOnlyBloodNet bloodNet = model.getBloodNet();
+        DonationColumns columns = bloodNet.getDonationColumns();
+        LocalDate start = startDate.getValue();
+        LocalDate end = endDate.getValue();
+
+        InventoryTotals totals = new InventoryTotals(columns.getDonationCount(start, end),
+                columns.getTotalBloodVolume(start, end));
+
+        StringBuilder countsPerPeriod = new StringBuilder();
+        int[] counts = columns.getDonationCountsPerPeriod(start, end, periodLength);
+        for (int i = 0; i < counts.length; i++) {
+            LocalDate periodStart = start.plusDays((long) i * periodLength);
+            LocalDate periodEnd = periodStart.plusDays(periodLength - 1);
+            if (periodEnd.isAfter(end)) {
+                periodEnd = end;
+            }
+            if (i > 0) {
+                countsPerPeriod.append("\n");
+            }
+            countsPerPeriod.append(String.format(MESSAGE_PERIOD, periodStart.format(DonationDate.DATE_FORMATTER),
+                    periodEnd.format(DonationDate.DATE_FORMATTER), counts[i], counts[i] == 1 ? "" : "s"));
+        }
+
+        return new InputResponse(String.format(MESSAGE_SUCCESS, startDate, endDate,
+                StatsCommand.formatTotals(StatsCommand.TOTAL_LABEL, totals), periodLength, countsPerPeriod,
+                formatMostFrequentDonors(bloodNet, columns.getDonationCountsByDonor(start, end))));
+    }
+
+    /**
+     * Formats the {@link #MAX_DONORS_SHOWN} donors with the most donations in {@code countsByDonor} for display
+     * to the user, from the most donations to the fewest, and by name for the same number of donations.
+     */
+    private static String formatMostFrequentDonors(ReadOnlyBloodNet bloodNet, Map<UUID, Integer> countsByDonor) {
+        List<Person> donors = new ArrayList<>();
+        for (UUID donorId : countsByDonor.keySet()) {
+            bloodNet.getPersonById(donorId).ifPresent(donors::add);
+        }
+        if (donors.isEmpty()) {
+            return MESSAGE_NO_DONORS;
+        }
+
+        donors.sort(Comparator.<Person>comparingInt(donor -> countsByDonor.get(donor.getId())).reversed()
+                .thenComparing(donor -> donor.getName().fullName));
+        StringBuilder mostFrequentDonors = new StringBuilder();
+        for (int i = 0; i < Math.min(MAX_DONORS_SHOWN, donors.size()); i++) {
+            Person donor = donors.get(i);
+            int count = countsByDonor.get(donor.getId());
+            if (i > 0) {
+                mostFrequentDonors.append("\n");
+            }
+            mostFrequentDonors.append(String.format(MESSAGE_DONOR, donor.getName().fullName, count,
+                    count == 1 ? "" : "s"));
+        }
+        return mostFrequentDonors.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TrendsCommand)) {
+            return false;
+        }
+
+        TrendsCommand otherCommand = (TrendsCommand) other;
+        return startDate.equals(otherCommand.startDate)
+                && endDate.equals(otherCommand.endDate)
+                && periodLength == otherCommand.periodLength;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .add("periodLength", periodLength)
+                .toString();
+    }
+
+    public static String getMessageUsage() {
+        return COMMAND_INFORMATION.getMessageUsage();
+    }
+}
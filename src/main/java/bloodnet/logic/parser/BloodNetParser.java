@@ -18,10 +18,16 @@ import bloodnet.logic.commands.EditCommand;
 import bloodnet.logic.commands.EditDonationCommand;
 import bloodnet.logic.commands.ExitCommand;
 import bloodnet.logic.commands.FindCommand;
+import bloodnet.logic.commands.FindDonationsBetweenCommand;
 import bloodnet.logic.commands.FindDonationsCommand;
 import bloodnet.logic.commands.FindEligibleCommand;
+import bloodnet.logic.commands.FindPartialCommand;
+import bloodnet.logic.commands.FindSimilarCommand;
 import bloodnet.logic.commands.HelpCommand;
 import bloodnet.logic.commands.ListCommand;
+import bloodnet.logic.commands.LookupCommand;
+import bloodnet.logic.commands.StatsCommand;
+import bloodnet.logic.commands.TrendsCommand;
 import bloodnet.logic.parser.exceptions.ParseException;
 
 /**
@@ -79,18 +85,36 @@ public class BloodNetParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case FindPartialCommand.COMMAND_WORD:
+            return new FindPartialCommandParser().parse(arguments);
+
+        case FindSimilarCommand.COMMAND_WORD:
+            return new FindSimilarCommandParser().parse(arguments);
+
+        case LookupCommand.COMMAND_WORD:
+            return new LookupCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
         case FindDonationsCommand.COMMAND_WORD:
             return new FindDonationsCommandParser().parse(arguments);
 
+        case FindDonationsBetweenCommand.COMMAND_WORD:
+            return new FindDonationsBetweenCommandParser().parse(arguments);
+
         case AddDonationCommand.COMMAND_WORD:
             return new AddDonationCommandParser().parse(arguments);
 
         case FindEligibleCommand.COMMAND_WORD:
             return new FindEligibleCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommandParser().parse(arguments);
+
+        case TrendsCommand.COMMAND_WORD:
+            return new TrendsCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
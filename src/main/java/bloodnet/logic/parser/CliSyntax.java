@@ -14,6 +14,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_PERSON_INDEX_ONE_BASED = new Prefix("p/");
     public static final Prefix PREFIX_DONATION_DATE = new Prefix("d/");
     public static final Prefix PREFIX_BLOOD_VOLUME = new Prefix("v/");
+    public static final Prefix PREFIX_START_DATE = new Prefix("f/");
+    public static final Prefix PREFIX_END_DATE = new Prefix("t/");
+    public static final Prefix PREFIX_AGE_RANGE = new Prefix("a/");
+    public static final Prefix PREFIX_PERIOD_LENGTH = new Prefix("l/");
 
     public static final String DATE_FORMAT = "(DD-MM-YYYY)";
     public static final String POSITIVE_INTEGER_FORMAT = "(MUST_BE_A_POSITIVE_WHOLE_NUMBER)";
@@ -1,11 +1,14 @@
 package bloodnet.logic.parser;
 
 import static bloodnet.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_AGE_RANGE;
 
 import java.util.Arrays;
+import java.util.List;
 
 import bloodnet.logic.commands.FindCommand;
 import bloodnet.logic.parser.exceptions.ParseException;
+import bloodnet.model.person.AgeRange;
 import bloodnet.model.person.NameContainsKeywordsPredicate;
 
 /**
@@ -20,15 +23,23 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_AGE_RANGE);
+        String trimmedPreamble = argMultimap.getPreamble().trim();
+        boolean hasAgeRange = argMultimap.getValue(PREFIX_AGE_RANGE).isPresent();
+        if (trimmedPreamble.isEmpty() && !hasAgeRange) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.getMessageUsage()));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_AGE_RANGE);
+        List<String> nameKeywords = trimmedPreamble.isEmpty()
+                ? List.of()
+                : Arrays.asList(trimmedPreamble.split("\\s+"));
+        AgeRange ageRange = hasAgeRange
+                ? ParserUtil.parseAgeRange(argMultimap.getValue(PREFIX_AGE_RANGE).get())
+                : null;
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindCommand(new NameContainsKeywordsPredicate(nameKeywords), ageRange);
     }
 
 }
@@ -0,0 +1,54 @@
+package bloodnet.logic.parser;
+
+import static bloodnet.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_BLOOD_TYPE;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_START_DATE;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import bloodnet.logic.commands.FindDonationsBetweenCommand;
+import bloodnet.logic.parser.exceptions.ParseException;
+import bloodnet.model.donationrecord.DonationDate;
+import bloodnet.model.person.BloodType;
+
+/**
+ * Parses input arguments and creates a new FindDonationsBetweenCommand object
+ */
+public class FindDonationsBetweenCommandParser implements Parser<FindDonationsBetweenCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindDonationsBetweenCommand
+     * and returns a FindDonationsBetweenCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindDonationsBetweenCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_START_DATE, PREFIX_END_DATE, PREFIX_BLOOD_TYPE);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_START_DATE, PREFIX_END_DATE)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindDonationsBetweenCommand.getMessageUsage()));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START_DATE, PREFIX_END_DATE);
+        DonationDate startDate = ParserUtil.parseDonationDate(argMultimap.getValue(PREFIX_START_DATE).get());
+        DonationDate endDate = ParserUtil.parseEndDate(argMultimap.getValue(PREFIX_END_DATE).get(), startDate);
+        Set<BloodType.Kind> bloodTypeKinds =
+                ParserUtil.parseBloodTypeKinds(argMultimap.getAllValues(PREFIX_BLOOD_TYPE));
+
+        return new FindDonationsBetweenCommand(startDate, endDate, bloodTypeKinds);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+
+}
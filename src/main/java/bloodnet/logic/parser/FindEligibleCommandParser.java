@@ -1,12 +1,14 @@
 package bloodnet.logic.parser;
 
 import static bloodnet.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_AGE_RANGE;
 
 import java.util.Arrays;
 import java.util.List;
 
 import bloodnet.logic.commands.FindEligibleCommand;
 import bloodnet.logic.parser.exceptions.ParseException;
+import bloodnet.model.person.AgeRange;
 
 /**
  * Parses input arguments and creates a new FindEligibleCommand object
@@ -20,7 +22,8 @@ public class FindEligibleCommandParser implements Parser<FindEligibleCommand> {
      * @throws ParseException if the user input does not conform to the expected format
      */
     public FindEligibleCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_AGE_RANGE);
+        String trimmedArgs = argMultimap.getPreamble().trim();
         String[] bloodTypesToFilterFor = trimmedArgs.split("\\s+");
         List<String> list = Arrays.asList(bloodTypesToFilterFor);
 
@@ -33,6 +36,11 @@ public class FindEligibleCommandParser implements Parser<FindEligibleCommand> {
             ParserUtil.parseBloodType(bloodType);
         }
 
-        return new FindEligibleCommand(list);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_AGE_RANGE);
+        AgeRange ageRange = argMultimap.getValue(PREFIX_AGE_RANGE).isPresent()
+                ? ParserUtil.parseAgeRange(argMultimap.getValue(PREFIX_AGE_RANGE).get())
+                : null;
+
+        return new FindEligibleCommand(list, ageRange);
     }
 }
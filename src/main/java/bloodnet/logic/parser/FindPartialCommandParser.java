@@ -0,0 +1,29 @@
+package bloodnet.logic.parser;
+
+import static bloodnet.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import bloodnet.logic.commands.FindPartialCommand;
+import bloodnet.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindPartialCommand object
+ */
+public class FindPartialCommandParser implements Parser<FindPartialCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindPartialCommand
+     * and returns a FindPartialCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindPartialCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPartialCommand.getMessageUsage()));
+        }
+
+        return new FindPartialCommand(trimmedArgs.replaceAll("\\s+", " "));
+    }
+
+}
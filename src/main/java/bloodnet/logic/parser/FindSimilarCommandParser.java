@@ -0,0 +1,33 @@
+package bloodnet.logic.parser;
+
+import static bloodnet.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import bloodnet.logic.commands.FindSimilarCommand;
+import bloodnet.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindSimilarCommand object
+ */
+public class FindSimilarCommandParser implements Parser<FindSimilarCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindSimilarCommand
+     * and returns a FindSimilarCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindSimilarCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSimilarCommand.getMessageUsage()));
+        }
+
+        String[] nameKeywords = trimmedArgs.split("\\s+");
+
+        return new FindSimilarCommand(Arrays.asList(nameKeywords));
+    }
+
+}
@@ -0,0 +1,41 @@
+package bloodnet.logic.parser;
+
+import static bloodnet.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.Optional;
+
+import bloodnet.logic.commands.LookupCommand;
+import bloodnet.logic.parser.exceptions.ParseException;
+import bloodnet.model.person.Email;
+import bloodnet.model.person.Phone;
+
+/**
+ * Parses input arguments and creates a new LookupCommand object
+ */
+public class LookupCommandParser implements Parser<LookupCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LookupCommand
+     * and returns a LookupCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LookupCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PHONE, PREFIX_EMAIL);
+
+        Optional<String> phoneValue = argMultimap.getValue(PREFIX_PHONE);
+        Optional<String> emailValue = argMultimap.getValue(PREFIX_EMAIL);
+        if ((phoneValue.isEmpty() && emailValue.isEmpty()) || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.getMessageUsage()));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PHONE, PREFIX_EMAIL);
+        Phone phone = phoneValue.isPresent() ? ParserUtil.parsePhone(phoneValue.get()) : null;
+        Email email = emailValue.isPresent() ? ParserUtil.parseEmail(emailValue.get()) : null;
+
+        return new LookupCommand(phone, email);
+    }
+
+}
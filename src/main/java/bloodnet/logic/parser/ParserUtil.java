@@ -1,15 +1,20 @@
 package bloodnet.logic.parser;
 
 import static bloodnet.logic.Messages.MESSAGE_DATE_OF_BIRTH_TOO_OLD;
+import static bloodnet.logic.Messages.MESSAGE_START_DATE_AFTER_END_DATE;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
 
 import bloodnet.commons.core.index.Index;
 import bloodnet.commons.util.StringUtil;
 import bloodnet.logic.parser.exceptions.ParseException;
 import bloodnet.model.donationrecord.BloodVolume;
 import bloodnet.model.donationrecord.DonationDate;
+import bloodnet.model.person.AgeRange;
 import bloodnet.model.person.BloodType;
 import bloodnet.model.person.DateOfBirth;
 import bloodnet.model.person.Email;
@@ -22,6 +27,7 @@ import bloodnet.model.person.Phone;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_PERIOD_LENGTH = "Period length is not a non-zero unsigned integer.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -37,6 +43,20 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code periodLength} into a number of days and returns it. Leading and trailing whitespaces will be
+     * trimmed.
+     *
+     * @throws ParseException if the specified period length is invalid (not non-zero unsigned integer).
+     */
+    public static int parsePeriodLength(String periodLength) throws ParseException {
+        String trimmedPeriodLength = periodLength.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedPeriodLength)) {
+            throw new ParseException(MESSAGE_INVALID_PERIOD_LENGTH);
+        }
+        return Integer.parseInt(trimmedPeriodLength);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -79,7 +99,7 @@ public class ParserUtil {
         if (!BloodType.isValidBloodType(trimmedBloodType)) {
             throw new ParseException(BloodType.MESSAGE_CONSTRAINTS);
         }
-        return new BloodType(trimmedBloodType);
+        return BloodType.of(trimmedBloodType);
     }
 
     /**
@@ -97,7 +117,7 @@ public class ParserUtil {
                     LocalDate.now().minusYears(130).format(DateOfBirth.DATE_FORMATTER));
             throw new ParseException(formattedMessage);
         }
-        return new DateOfBirth(trimmedDateOfBirth);
+        return DateOfBirth.of(trimmedDateOfBirth);
     }
 
     /**
@@ -127,7 +147,23 @@ public class ParserUtil {
         if (!DonationDate.isValidDonationDate(trimmedDonationDate)) {
             throw new ParseException(DonationDate.MESSAGE_CONSTRAINTS);
         }
-        return new DonationDate(trimmedDonationDate);
+        return DonationDate.of(trimmedDonationDate);
+    }
+
+    /**
+     * Parses a {@code String endDate} into a {@code DonationDate} that ends a date range starting on
+     * {@code startDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code endDate} is invalid or before {@code startDate}.
+     */
+    public static DonationDate parseEndDate(String endDate, DonationDate startDate) throws ParseException {
+        requireNonNull(startDate);
+        DonationDate parsedEndDate = parseDonationDate(endDate);
+        if (startDate.getValue().isAfter(parsedEndDate.getValue())) {
+            throw new ParseException(MESSAGE_START_DATE_AFTER_END_DATE);
+        }
+        return parsedEndDate;
     }
 
     /**
@@ -142,6 +178,35 @@ public class ParserUtil {
         if (!BloodVolume.isValidBloodVolume(trimmedBloodVolume)) {
             throw new ParseException(BloodVolume.MESSAGE_CONSTRAINTS);
         }
-        return new BloodVolume(trimmedBloodVolume);
+        return BloodVolume.of(trimmedBloodVolume);
+    }
+
+    /**
+     * Parses {@code Collection<String> bloodTypes} into a {@code Set<BloodType.Kind>}.
+     *
+     * @throws ParseException if any of the given {@code bloodTypes} is invalid.
+     */
+    public static Set<BloodType.Kind> parseBloodTypeKinds(Collection<String> bloodTypes) throws ParseException {
+        requireNonNull(bloodTypes);
+        Set<BloodType.Kind> bloodTypeKinds = EnumSet.noneOf(BloodType.Kind.class);
+        for (String bloodType : bloodTypes) {
+            bloodTypeKinds.add(parseBloodType(bloodType).getKind());
+        }
+        return bloodTypeKinds;
+    }
+
+    /**
+     * Parses a {@code String ageRange} into an {@code AgeRange}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code ageRange} is invalid.
+     */
+    public static AgeRange parseAgeRange(String ageRange) throws ParseException {
+        requireNonNull(ageRange);
+        String trimmedAgeRange = ageRange.trim();
+        if (!AgeRange.isValidAgeRange(trimmedAgeRange)) {
+            throw new ParseException(AgeRange.MESSAGE_CONSTRAINTS);
+        }
+        return new AgeRange(trimmedAgeRange);
     }
 }
@@ -0,0 +1,54 @@
+package bloodnet.logic.parser;
+
+import static bloodnet.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_PERIOD_LENGTH;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_START_DATE;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import bloodnet.logic.commands.TrendsCommand;
+import bloodnet.logic.parser.exceptions.ParseException;
+import bloodnet.model.donationrecord.DonationDate;
+
+/**
+ * Parses input arguments and creates a new TrendsCommand object
+ */
+public class TrendsCommandParser implements Parser<TrendsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TrendsCommand
+     * and returns a TrendsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public TrendsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_START_DATE, PREFIX_END_DATE, PREFIX_PERIOD_LENGTH);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_START_DATE, PREFIX_END_DATE)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TrendsCommand.getMessageUsage()));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START_DATE, PREFIX_END_DATE, PREFIX_PERIOD_LENGTH);
+        DonationDate startDate = ParserUtil.parseDonationDate(argMultimap.getValue(PREFIX_START_DATE).get());
+        DonationDate endDate = ParserUtil.parseEndDate(argMultimap.getValue(PREFIX_END_DATE).get(), startDate);
+        Optional<String> periodLength = argMultimap.getValue(PREFIX_PERIOD_LENGTH);
+        int parsedPeriodLength = periodLength.isPresent()
+                ? ParserUtil.parsePeriodLength(periodLength.get())
+                : TrendsCommand.DEFAULT_PERIOD_LENGTH;
+
+        return new TrendsCommand(startDate, endDate, parsedPeriodLength);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+
+}
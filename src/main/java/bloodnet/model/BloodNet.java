@@ -1,15 +1,37 @@
 package bloodnet.model;
 
+import static bloodnet.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 import bloodnet.commons.util.ToStringBuilder;
+import bloodnet.model.donationrecord.DonationColumns;
 import bloodnet.model.donationrecord.DonationRecord;
 import bloodnet.model.donationrecord.UniqueDonationRecordList;
+import bloodnet.model.donationrecord.exceptions.DuplicateDonationRecordException;
+import bloodnet.model.person.AgeRange;
+import bloodnet.model.person.BloodType;
+import bloodnet.model.person.Email;
 import bloodnet.model.person.Person;
+import bloodnet.model.person.Phone;
 import bloodnet.model.person.UniquePersonList;
+import bloodnet.model.person.exceptions.DuplicatePersonException;
 import javafx.collections.ObservableList;
 
 
@@ -21,6 +43,27 @@ public class BloodNet implements ReadOnlyBloodNet {
 
     private final UniquePersonList persons;
     private final UniqueDonationRecordList donationRecords;
+    private final EligibilityIndex eligibilityIndex;
+    private final Map<BloodType.Kind, Set<Person>> personsByBloodType;
+    private final NameIndex nameIndex;
+    private final NameTrigramIndex nameTrigramIndex;
+    private final PhoneticNameIndex phoneticNameIndex;
+    private final NavigableMap<LocalDate, Set<Person>> personsByDateOfBirth;
+    private final InventoryIndex inventoryIndex;
+
+    // Versions are handed out from a single counter, so bloodnets holding different data never share a version
+    private static final AtomicLong lastVersion = new AtomicLong();
+
+    // The number of changes kept however little data there is
+    private static final int MIN_CHANGES_KEPT = 100;
+
+    // Changed by every operation that changes the persons or donation records
+    private long version;
+
+    // The changes made by each operation since the data was at changesStartVersion, in the order they were made.
+    // Operations that replace the data as a whole start the list afresh.
+    private final List<BloodNetChange> changes = new ArrayList<>();
+    private long changesStartVersion;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -33,6 +76,17 @@ public class BloodNet implements ReadOnlyBloodNet {
     {
         persons = new UniquePersonList();
         donationRecords = new UniqueDonationRecordList();
+        eligibilityIndex = new EligibilityIndex(donationRecords::getTimeline);
+        personsByBloodType = new EnumMap<>(BloodType.Kind.class);
+        for (BloodType.Kind kind : BloodType.Kind.values()) {
+            personsByBloodType.put(kind, new HashSet<>());
+        }
+        nameIndex = new NameIndex();
+        nameTrigramIndex = new NameTrigramIndex();
+        phoneticNameIndex = new PhoneticNameIndex();
+        personsByDateOfBirth = new TreeMap<>();
+        inventoryIndex = new InventoryIndex();
+        startChanges(lastVersion.incrementAndGet());
     }
 
     public BloodNet() {
@@ -53,7 +107,10 @@ public class BloodNet implements ReadOnlyBloodNet {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        startChanges(lastVersion.incrementAndGet());
+        persons.forEach(BloodNet::assignIdIfMissing);
         this.persons.setPersons(persons);
+        rebuildPersonIndexes();
     }
 
     /**
@@ -61,7 +118,33 @@ public class BloodNet implements ReadOnlyBloodNet {
      * {@code donationRecords} must not contain duplicate donationRecords.
      */
     public void setDonationRecords(List<DonationRecord> donationRecords) {
+        startChanges(lastVersion.incrementAndGet());
+        donationRecords.forEach(BloodNet::assignIdIfMissing);
         this.donationRecords.setDonationRecords(donationRecords);
+        rebuildPersonIndexes();
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons} and the contents of the donationRecord list with
+     * {@code donationRecords}, rebuilding the indexes once for both.
+     * Neither may contain duplicates, and the data is left as it was if either does.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains duplicate persons.
+     * @throws DuplicateDonationRecordException if {@code donationRecords} contains duplicate donationRecords.
+     */
+    public void setData(List<Person> persons, List<DonationRecord> donationRecords) {
+        persons.forEach(BloodNet::assignIdIfMissing);
+        donationRecords.forEach(BloodNet::assignIdIfMissing);
+        List<Person> previousPersons = List.copyOf(this.persons.asUnmodifiableObservableList());
+        this.persons.setPersons(persons);
+        try {
+            this.donationRecords.setDonationRecords(donationRecords);
+        } catch (DuplicateDonationRecordException e) {
+            this.persons.setPersons(previousPersons);
+            throw e;
+        }
+        rebuildPersonIndexes();
+        startChanges(lastVersion.incrementAndGet());
     }
 
     /**
@@ -70,8 +153,18 @@ public class BloodNet implements ReadOnlyBloodNet {
     public void resetData(ReadOnlyBloodNet newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setDonationRecords(newData.getDonationRecordList());
+        // Another BloodNet is already known to be free of duplicates, so its lists can be copied over as-is.
+        // The copy holds the same data, so it takes on the same version, and its changes are recorded from there.
+        if (newData instanceof BloodNet) {
+            BloodNet otherBloodNet = (BloodNet) newData;
+            persons.setPersons(otherBloodNet.persons);
+            donationRecords.setDonationRecords(otherBloodNet.donationRecords);
+            rebuildPersonIndexes();
+            startChanges(otherBloodNet.version);
+            return;
+        }
+
+        setData(newData.getPersonList(), newData.getDonationRecordList());
     }
 
     //// person-level operations
@@ -89,7 +182,10 @@ public class BloodNet implements ReadOnlyBloodNet {
      * The person must not already exist in the bloodnet.
      */
     public void addPerson(Person p) {
+        assignIdIfMissing(p);
         persons.add(p);
+        indexPerson(p);
+        recordChange(BloodNetChange.Target.PERSON, p.getId());
     }
 
     /**
@@ -100,7 +196,13 @@ public class BloodNet implements ReadOnlyBloodNet {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        if (editedPerson.getId() == null) {
+            editedPerson.setId(target.getId());
+        }
         persons.setPerson(target, editedPerson);
+        unindexPerson(target);
+        indexPerson(editedPerson);
+        recordChange(BloodNetChange.Target.PERSON, target.getId(), editedPerson.getId());
     }
 
     /**
@@ -109,6 +211,8 @@ public class BloodNet implements ReadOnlyBloodNet {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        unindexPerson(key);
+        recordChange(BloodNetChange.Target.PERSON, key.getId());
     }
 
     /**
@@ -117,9 +221,7 @@ public class BloodNet implements ReadOnlyBloodNet {
      */
     public boolean hasDonationRecordFor(Person person) {
         requireNonNull(person);
-        return donationRecords.asUnmodifiableObservableList()
-                .stream()
-                .anyMatch(record -> record.getPersonId().equals(person.getId()));
+        return person.getId() != null && donationRecords.getDonationCount(person.getId()) > 0;
     }
 
     //// donationRecord-level operations
@@ -137,7 +239,12 @@ public class BloodNet implements ReadOnlyBloodNet {
      * The donationRecord must not already exist in the bloodnet.
      */
     public void addDonationRecord(DonationRecord donationRecord) {
+        assignIdIfMissing(donationRecord);
         donationRecords.add(donationRecord);
+        updateEligibility(donationRecord.getPersonId());
+        persons.getById(donationRecord.getPersonId())
+                .ifPresent(person -> inventoryIndex.add(person.getBloodType().getKind(), donationRecord));
+        recordChange(BloodNetChange.Target.DONATION_RECORD, donationRecord.getId());
     }
 
     /**
@@ -149,7 +256,17 @@ public class BloodNet implements ReadOnlyBloodNet {
     public void setDonationRecord(DonationRecord target, DonationRecord editedDonationRecord) {
         requireNonNull(editedDonationRecord);
 
+        if (editedDonationRecord.getId() == null) {
+            editedDonationRecord.setId(target.getId());
+        }
         donationRecords.setDonationRecord(target, editedDonationRecord);
+        updateEligibility(target.getPersonId());
+        updateEligibility(editedDonationRecord.getPersonId());
+        persons.getById(target.getPersonId())
+                .ifPresent(person -> inventoryIndex.remove(person.getBloodType().getKind(), target));
+        persons.getById(editedDonationRecord.getPersonId())
+                .ifPresent(person -> inventoryIndex.add(person.getBloodType().getKind(), editedDonationRecord));
+        recordChange(BloodNetChange.Target.DONATION_RECORD, target.getId(), editedDonationRecord.getId());
     }
 
     /**
@@ -158,6 +275,185 @@ public class BloodNet implements ReadOnlyBloodNet {
      */
     public void removeDonationRecord(DonationRecord key) {
         donationRecords.remove(key);
+        updateEligibility(key.getPersonId());
+        persons.getById(key.getPersonId())
+                .ifPresent(person -> inventoryIndex.remove(person.getBloodType().getKind(), key));
+        recordChange(BloodNetChange.Target.DONATION_RECORD, key.getId());
+    }
+
+    //// eligibility operations
+
+    @Override
+    public boolean isEligibleToDonate(Person person, LocalDate date) {
+        return eligibilityIndex.isEligible(person, date);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithBloodType(BloodType.Kind kind) {
+        requireNonNull(kind);
+        return Collections.unmodifiableSet(personsByBloodType.get(kind));
+    }
+
+    @Override
+    public Set<Person> findPersonsByNameKeywords(List<String> keywords) {
+        return nameIndex.findByKeywords(keywords);
+    }
+
+    @Override
+    public Map<Person, Integer> findPersonsByPartialName(String partialName) {
+        return nameTrigramIndex.findByPartialName(partialName);
+    }
+
+    @Override
+    public Set<Person> findPersonsBySimilarName(List<String> keywords) {
+        return phoneticNameIndex.findByKeywords(keywords);
+    }
+
+    @Override
+    public List<Person> findPersonsByPhone(Phone phone) {
+        return persons.getByPhone(phone);
+    }
+
+    @Override
+    public List<Person> findPersonsByEmail(Email email) {
+        return persons.getByEmail(email);
+    }
+
+    @Override
+    public Set<Person> getPersonsInAgeRange(AgeRange ageRange, LocalDate date) {
+        requireAllNonNull(ageRange, date);
+        Set<Person> matchingPersons = new HashSet<>();
+        // Persons within the age range are born after the older bound, up to and including the latest date of birth.
+        for (Set<Person> persons : personsByDateOfBirth.subMap(ageRange.getOlderDateOfBirthBound(date), false,
+                ageRange.getLatestDateOfBirth(date), true).values()) {
+            matchingPersons.addAll(persons);
+        }
+        return matchingPersons;
+    }
+
+    @Override
+    public List<DonationRecord> getDonationRecordsBetween(LocalDate startDate, LocalDate endDate) {
+        return donationRecords.getDonationRecordsBetween(startDate, endDate);
+    }
+
+    @Override
+    public InventoryTotals getInventoryTotals(BloodType.Kind kind, LocalDate startDate, LocalDate endDate) {
+        return inventoryIndex.getTotals(kind, startDate, endDate);
+    }
+
+    @Override
+    public DonationColumns getDonationColumns() {
+        return donationRecords.getColumns();
+    }
+
+    /**
+     * Moves this bloodnet to a new version, and records that the {@code target}s with the given {@code ids} were
+     * changed by the operation which did so.
+     * Once more changes are kept than there are persons and donation records, reading the data afresh is cheaper
+     * than replaying them, so they are dropped instead, unless there are only a few.
+     */
+    private void recordChange(BloodNetChange.Target target, UUID... ids) {
+        long newVersion = lastVersion.incrementAndGet();
+        if (changes.size() >= Math.max(MIN_CHANGES_KEPT,
+                getPersonList().size() + getDonationRecordList().size())) {
+            startChanges(newVersion);
+            return;
+        }
+
+        version = newVersion;
+        for (UUID id : new LinkedHashSet<>(Arrays.asList(ids))) {
+            changes.add(new BloodNetChange(target, id, version));
+        }
+    }
+
+    /**
+     * Moves this bloodnet to {@code newVersion} and forgets the changes made before it.
+     */
+    private void startChanges(long newVersion) {
+        version = newVersion;
+        changes.clear();
+        changesStartVersion = newVersion;
+    }
+
+    /**
+     * Recomputes the eligibility of the person with the given {@code personId}, if they are in the bloodnet.
+     */
+    private void updateEligibility(UUID personId) {
+        persons.getById(personId).ifPresent(eligibilityIndex::update);
+    }
+
+    /**
+     * Adds {@code person} to every person index kept alongside the person list.
+     */
+    private void indexPerson(Person person) {
+        personsByBloodType.get(person.getBloodType().getKind()).add(person);
+        eligibilityIndex.update(person);
+        nameIndex.add(person);
+        nameTrigramIndex.add(person);
+        phoneticNameIndex.add(person);
+        personsByDateOfBirth.computeIfAbsent(person.getDateOfBirth().getValue(), date -> new HashSet<>()).add(person);
+        if (person.getId() != null) {
+            // The donations of a person are counted under their blood type, which can change when they are edited.
+            for (DonationRecord donationRecord : donationRecords.getTimeline(person.getId()).values()) {
+                inventoryIndex.add(person.getBloodType().getKind(), donationRecord);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person} from every person index kept alongside the person list.
+     */
+    private void unindexPerson(Person person) {
+        personsByBloodType.get(person.getBloodType().getKind()).remove(person);
+        eligibilityIndex.remove(person);
+        nameIndex.remove(person);
+        nameTrigramIndex.remove(person);
+        phoneticNameIndex.remove(person);
+        Set<Person> personsBornOnDate = personsByDateOfBirth.get(person.getDateOfBirth().getValue());
+        if (personsBornOnDate != null) {
+            personsBornOnDate.remove(person);
+            if (personsBornOnDate.isEmpty()) {
+                personsByDateOfBirth.remove(person.getDateOfBirth().getValue());
+            }
+        }
+        if (person.getId() != null) {
+            for (DonationRecord donationRecord : donationRecords.getTimeline(person.getId()).values()) {
+                inventoryIndex.remove(person.getBloodType().getKind(), donationRecord);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds every person index from the persons in the bloodnet.
+     */
+    private void rebuildPersonIndexes() {
+        personsByBloodType.values().forEach(Set::clear);
+        eligibilityIndex.clear();
+        nameIndex.clear();
+        nameTrigramIndex.clear();
+        phoneticNameIndex.clear();
+        personsByDateOfBirth.clear();
+        inventoryIndex.clear();
+        persons.asUnmodifiableObservableList().forEach(this::indexPerson);
+    }
+
+    /**
+     * Gives {@code person} a new random id if it does not have one yet.
+     * Ids are assigned as persons enter the bloodnet, so that they can be looked up and saved by id straight away.
+     */
+    private static void assignIdIfMissing(Person person) {
+        if (person.getId() == null) {
+            person.setId(UUID.randomUUID());
+        }
+    }
+
+    /**
+     * Gives {@code donationRecord} a new random id if it does not have one yet.
+     */
+    private static void assignIdIfMissing(DonationRecord donationRecord) {
+        if (donationRecord.getId() == null) {
+            donationRecord.setId(UUID.randomUUID());
+        }
     }
 
     //// util methods
@@ -170,6 +466,28 @@ public class BloodNet implements ReadOnlyBloodNet {
                 .toString();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<List<BloodNetChange>> getChangesSince(long sinceVersion) {
+        // The versions of the changes only ever increase, so the changes since sinceVersion are at the end.
+        int start = changes.size();
+        while (start > 0 && changes.get(start - 1).getVersion() > sinceVersion) {
+            start--;
+        }
+
+        boolean wasAtSinceVersion = start > 0
+                ? changes.get(start - 1).getVersion() == sinceVersion
+                : changesStartVersion == sinceVersion;
+        if (!wasAtSinceVersion) {
+            return Optional.empty();
+        }
+        return Optional.of(List.copyOf(changes.subList(start, changes.size())));
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
@@ -180,6 +498,21 @@ public class BloodNet implements ReadOnlyBloodNet {
         return donationRecords.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Optional<Person> getPersonById(UUID id) {
+        return persons.getById(id);
+    }
+
+    @Override
+    public Optional<DonationRecord> getDonationRecordById(UUID id) {
+        return donationRecords.getById(id);
+    }
+
+    @Override
+    public NavigableMap<LocalDate, DonationRecord> getDonationTimeline(UUID personId) {
+        return donationRecords.getTimeline(personId);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
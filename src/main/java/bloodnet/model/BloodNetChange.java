@@ -0,0 +1,79 @@
+package bloodnet.model;
+
+import static bloodnet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import bloodnet.commons.util.ToStringBuilder;
+
+/**
+ * A person or donation record added, edited or removed by a single operation on a {@code BloodNet}.
+ * Only the id of what was changed is kept; whether it is still there tells an addition or edit from a removal.
+ * Guarantees: immutable.
+ */
+public class BloodNetChange {
+
+    /**
+     * The kinds of data that a change can be made to.
+     */
+    public enum Target {
+        PERSON, DONATION_RECORD
+    }
+
+    private final Target target;
+    private final UUID id;
+    private final long version;
+
+    /**
+     * Creates a {@code BloodNetChange} to the {@code target} with the given {@code id}, which took the bloodnet to
+     * {@code version}.
+     */
+    public BloodNetChange(Target target, UUID id, long version) {
+        requireAllNonNull(target, id);
+        this.target = target;
+        this.id = id;
+        this.version = version;
+    }
+
+    public Target getTarget() {
+        return target;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BloodNetChange)) {
+            return false;
+        }
+
+        BloodNetChange otherChange = (BloodNetChange) other;
+        return target == otherChange.target && id.equals(otherChange.id) && version == otherChange.version;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(target, id, version);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("target", target)
+                .add("id", id)
+                .add("version", version)
+                .toString();
+    }
+}
@@ -0,0 +1,137 @@
+package bloodnet.model;
+
+import static bloodnet.model.person.EligibilityRules.NO_DONATION;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.function.Function;
+
+import bloodnet.model.donationrecord.DonationRecord;
+import bloodnet.model.person.EligibilityRules;
+import bloodnet.model.person.Person;
+
+/**
+ * Keeps track of when each person is eligible to donate blood.
+ *
+ * For every person, the window of days after their latest donation during which they may donate is stored
+ * as a start day (inclusive) and a stop day (exclusive), so whether a person is eligible on a given date is
+ * found without re-validating them against every donation.
+ * The windows must be refreshed through {@link #update(Person)} whenever a person or their donations change.
+ *
+ * The eligibility rules themselves are in {@link EligibilityRules}.
+ */
+public class EligibilityIndex {
+
+    private final Function<UUID, NavigableMap<LocalDate, DonationRecord>> timelines;
+    private final Map<Person, EligibilityWindow> windows = new HashMap<>();
+
+    /**
+     * Creates an empty {@code EligibilityIndex} which looks up the donations of a person through {@code timelines}.
+     */
+    public EligibilityIndex(Function<UUID, NavigableMap<LocalDate, DonationRecord>> timelines) {
+        requireNonNull(timelines);
+        this.timelines = timelines;
+    }
+
+    /**
+     * Recomputes the eligibility window of {@code person} from their date of birth and donations.
+     */
+    public void update(Person person) {
+        requireNonNull(person);
+        windows.put(person, computeWindow(person));
+    }
+
+    /**
+     * Stops tracking {@code person}. Does nothing if {@code person} is not tracked.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        windows.remove(person);
+    }
+
+    /**
+     * Stops tracking every person.
+     */
+    public void clear() {
+        windows.clear();
+    }
+
+    /**
+     * Returns true if {@code person} is eligible to donate blood on {@code date}.
+     * {@code person} does not have to be tracked by this index.
+     */
+    public boolean isEligible(Person person, LocalDate date) {
+        requireNonNull(person);
+        requireNonNull(date);
+        EligibilityWindow window = windows.get(person);
+        if (window == null) {
+            window = computeWindow(person);
+        }
+        long epochDay = date.toEpochDay();
+        if (epochDay < window.latestDonationEpochDay) {
+            return isEligibleBetweenDonations(person, date, EligibilityRules.getLapseCutoffEpochDay(date));
+        }
+        return window.contains(epochDay);
+    }
+
+    /**
+     * Computes the window after the latest donation of {@code person} during which they may donate.
+     */
+    private EligibilityWindow computeWindow(Person person) {
+        NavigableMap<LocalDate, DonationRecord> timeline = getTimeline(person);
+        if (timeline.isEmpty()) {
+            return new EligibilityWindow(NO_DONATION, person.getMinimumAgeEpochDay(),
+                    person.getFirstTimeDonorAgeLimitEpochDay());
+        }
+
+        LocalDate latestDonationDate = timeline.lastKey();
+        long latestDonationEpochDay = latestDonationDate.toEpochDay();
+        long startEpochDay = Math.max(latestDonationEpochDay + EligibilityRules.MINIMUM_DAYS_BETWEEN_DONATIONS,
+                person.getMinimumAgeEpochDay());
+        long stopEpochDay = Math.max(latestDonationDate.plusYears(EligibilityRules.RECENT_DONOR_YEARS).toEpochDay(),
+                person.getNonRecentDonorAgeLimitEpochDay());
+        return new EligibilityWindow(latestDonationEpochDay, startEpochDay, stopEpochDay);
+    }
+
+    /**
+     * Returns true if {@code person} is eligible to donate on {@code date}, given the donations they made
+     * before and after it.
+     */
+    private boolean isEligibleBetweenDonations(Person person, LocalDate date, long lapseCutoffEpochDay) {
+        NavigableMap<LocalDate, DonationRecord> timeline = getTimeline(person);
+        LocalDate predecessor = timeline.floorKey(date);
+        LocalDate successor = timeline.ceilingKey(date);
+        return EligibilityRules.isEligible(person, date.toEpochDay(), lapseCutoffEpochDay,
+                predecessor == null ? NO_DONATION : predecessor.toEpochDay(),
+                successor == null ? NO_DONATION : successor.toEpochDay());
+    }
+
+    private NavigableMap<LocalDate, DonationRecord> getTimeline(Person person) {
+        return person.getId() == null ? Collections.emptyNavigableMap() : timelines.apply(person.getId());
+    }
+
+    /**
+     * Epoch days from {@code startEpochDay} (inclusive) to {@code stopEpochDay} (exclusive) on which a person
+     * may donate, counted from their latest donation, if any.
+     */
+    private static class EligibilityWindow {
+        private final long latestDonationEpochDay;
+        private final long startEpochDay;
+        private final long stopEpochDay;
+
+        EligibilityWindow(long latestDonationEpochDay, long startEpochDay, long stopEpochDay) {
+            this.latestDonationEpochDay = latestDonationEpochDay;
+            this.startEpochDay = startEpochDay;
+            this.stopEpochDay = stopEpochDay;
+        }
+
+        boolean contains(long epochDay) {
+            return epochDay >= startEpochDay && epochDay < stopEpochDay;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package bloodnet.model;
+
+import static bloodnet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+import bloodnet.model.donationrecord.DonationRecord;
+import bloodnet.model.person.BloodType;
+
+/**
+ * Keeps running totals of the donations and blood volume collected per blood type per day.
+ *
+ * The daily totals of every blood type are kept in a Fenwick tree (binary indexed tree) over the days, so
+ * both adding a donation and totalling any range of days take O(log n) time in the number of days covered,
+ * without visiting the donations or their donors.
+ * The totals must be updated through {@link #add} and {@link #remove} whenever a donation, or the blood type of
+ * its donor, changes.
+ */
+public class InventoryIndex {
+
+    private final Map<BloodType.Kind, DailyTotals> totalsByBloodType = new EnumMap<>(BloodType.Kind.class);
+
+    /**
+     * Creates an empty {@code InventoryIndex}.
+     */
+    public InventoryIndex() {
+        for (BloodType.Kind kind : BloodType.Kind.values()) {
+            totalsByBloodType.put(kind, new DailyTotals());
+        }
+    }
+
+    /**
+     * Adds {@code donationRecord} to the totals of blood type {@code kind}.
+     */
+    public void add(BloodType.Kind kind, DonationRecord donationRecord) {
+        requireAllNonNull(kind, donationRecord);
+        totalsByBloodType.get(kind).add(toEpochDay(donationRecord), 1, donationRecord.getBloodVolume().volume);
+    }
+
+    /**
+     * Removes {@code donationRecord} from the totals of blood type {@code kind}.
+     * {@code donationRecord} must have been added under {@code kind}.
+     */
+    public void remove(BloodType.Kind kind, DonationRecord donationRecord) {
+        requireAllNonNull(kind, donationRecord);
+        totalsByBloodType.get(kind).add(toEpochDay(donationRecord), -1, -donationRecord.getBloodVolume().volume);
+    }
+
+    /**
+     * Removes every donation from the totals.
+     */
+    public void clear() {
+        totalsByBloodType.values().forEach(DailyTotals::clear);
+    }
+
+    /**
+     * Returns the totals of blood type {@code kind} from {@code startDate} to {@code endDate}, both inclusive.
+     */
+    public InventoryTotals getTotals(BloodType.Kind kind, LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(kind, startDate, endDate);
+        if (startDate.isAfter(endDate)) {
+            return InventoryTotals.NONE;
+        }
+        return totalsByBloodType.get(kind).getTotals(startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    private static long toEpochDay(DonationRecord donationRecord) {
+        return donationRecord.getDonationDate().getValue().toEpochDay();
+    }
+
+    /**
+     * Fenwick trees of the donation counts and blood volumes of a single blood type, over a run of consecutive days
+     * starting from {@code firstEpochDay}. The run grows to cover any day a donation is added on.
+     */
+    private static class DailyTotals {
+        private static final int INITIAL_CAPACITY = 64;
+
+        private long firstEpochDay;
+        // Position i of a tree (1-based) covers the (i & -i) days up to and including day firstEpochDay + i - 1.
+        private int[] countTree = new int[0];
+        private long[] volumeTree = new long[0];
+
+        void add(long epochDay, int countDelta, long volumeDelta) {
+            ensureCovers(epochDay);
+            int capacity = countTree.length - 1;
+            for (int i = (int) (epochDay - firstEpochDay) + 1; i <= capacity; i += i & -i) {
+                countTree[i] += countDelta;
+                volumeTree[i] += volumeDelta;
+            }
+        }
+
+        void clear() {
+            countTree = new int[0];
+            volumeTree = new long[0];
+        }
+
+        InventoryTotals getTotals(long startEpochDay, long endEpochDay) {
+            int count = getCountUpTo(endEpochDay) - getCountUpTo(startEpochDay - 1);
+            long volume = getVolumeUpTo(endEpochDay) - getVolumeUpTo(startEpochDay - 1);
+            return new InventoryTotals(count, volume);
+        }
+
+        /**
+         * Returns the number of days from {@code firstEpochDay} up to and including {@code epochDay} that are
+         * covered by the trees.
+         */
+        private int getPrefixLength(long epochDay) {
+            int capacity = Math.max(countTree.length - 1, 0);
+            return (int) Math.max(0, Math.min(epochDay - firstEpochDay + 1, capacity));
+        }
+
+        private int getCountUpTo(long epochDay) {
+            int count = 0;
+            for (int i = getPrefixLength(epochDay); i > 0; i -= i & -i) {
+                count += countTree[i];
+            }
+            return count;
+        }
+
+        private long getVolumeUpTo(long epochDay) {
+            long volume = 0;
+            for (int i = getPrefixLength(epochDay); i > 0; i -= i & -i) {
+                volume += volumeTree[i];
+            }
+            return volume;
+        }
+
+        /**
+         * Grows the trees, if needed, so that they cover {@code epochDay}.
+         * The trees are at least doubled, with the extra days on the side that {@code epochDay} is on.
+         */
+        private void ensureCovers(long epochDay) {
+            int capacity = countTree.length - 1;
+            if (capacity <= 0) {
+                firstEpochDay = epochDay - INITIAL_CAPACITY / 2;
+                countTree = new int[INITIAL_CAPACITY + 1];
+                volumeTree = new long[INITIAL_CAPACITY + 1];
+                return;
+            }
+
+            long lastEpochDay = firstEpochDay + capacity - 1;
+            if (epochDay >= firstEpochDay && epochDay <= lastEpochDay) {
+                return;
+            }
+
+            long span = Math.max(lastEpochDay, epochDay) - Math.min(firstEpochDay, epochDay) + 1;
+            int newCapacity = capacity;
+            while (newCapacity < 2 * span) {
+                newCapacity *= 2;
+            }
+            long newFirstEpochDay = epochDay < firstEpochDay ? lastEpochDay - newCapacity + 1 : firstEpochDay;
+
+            int[] dailyCounts = new int[newCapacity + 1];
+            long[] dailyVolumes = new long[newCapacity + 1];
+            int offset = (int) (firstEpochDay - newFirstEpochDay);
+            for (int i = 1; i <= capacity; i++) {
+                long day = firstEpochDay + i - 1;
+                dailyCounts[offset + i] = getCountUpTo(day) - getCountUpTo(day - 1);
+                dailyVolumes[offset + i] = getVolumeUpTo(day) - getVolumeUpTo(day - 1);
+            }
+
+            // Turns the daily totals into trees in place, by pushing every position into its parent.
+            for (int i = 1; i <= newCapacity; i++) {
+                int parent = i + (i & -i);
+                if (parent <= newCapacity) {
+                    dailyCounts[parent] += dailyCounts[i];
+                    dailyVolumes[parent] += dailyVolumes[i];
+                }
+            }
+            firstEpochDay = newFirstEpochDay;
+            countTree = dailyCounts;
+            volumeTree = dailyVolumes;
+        }
+    }
+}
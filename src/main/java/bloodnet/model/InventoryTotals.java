@@ -0,0 +1,68 @@
+package bloodnet.model;
+
+import java.util.Objects;
+
+import bloodnet.commons.util.ToStringBuilder;
+
+/**
+ * The number of donations and the total volume of blood, in millilitres, collected over a period of days.
+ * Guarantees: immutable.
+ */
+public class InventoryTotals {
+
+    public static final InventoryTotals NONE = new InventoryTotals(0, 0);
+
+    private final int donationCount;
+    private final long bloodVolume;
+
+    /**
+     * Creates an {@code InventoryTotals} of {@code donationCount} donations of {@code bloodVolume} millilitres in all.
+     */
+    public InventoryTotals(int donationCount, long bloodVolume) {
+        this.donationCount = donationCount;
+        this.bloodVolume = bloodVolume;
+    }
+
+    public int getDonationCount() {
+        return donationCount;
+    }
+
+    public long getBloodVolume() {
+        return bloodVolume;
+    }
+
+    /**
+     * Returns the totals of both this and {@code other}.
+     */
+    public InventoryTotals plus(InventoryTotals other) {
+        return new InventoryTotals(donationCount + other.donationCount, bloodVolume + other.bloodVolume);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof InventoryTotals)) {
+            return false;
+        }
+
+        InventoryTotals otherTotals = (InventoryTotals) other;
+        return donationCount == otherTotals.donationCount && bloodVolume == otherTotals.bloodVolume;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(donationCount, bloodVolume);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("donationCount", donationCount)
+                .add("bloodVolume", bloodVolume)
+                .toString();
+    }
+}
@@ -1,6 +1,7 @@
 package bloodnet.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.function.Predicate;
 
 import bloodnet.commons.core.GuiSettings;
@@ -94,6 +95,14 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate},
+     * and orders the filtered persons by the given {@code comparator}.
+     *
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
     /**
      * Returns true if a donationRecord with the same identity as {@code donationRecord} exists in the bloodnet.
      */
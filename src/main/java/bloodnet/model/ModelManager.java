@@ -4,6 +4,7 @@ import static bloodnet.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,6 +14,7 @@ import bloodnet.model.donationrecord.DonationRecord;
 import bloodnet.model.person.Person;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 
 /**
  * Represents the in-memory model of the bloodnet data.
@@ -23,6 +25,7 @@ public class ModelManager implements Model {
     private final BloodNet bloodNet;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedFilteredPersons;
     private final FilteredList<DonationRecord> filteredDonationRecords;
 
     /**
@@ -36,6 +39,7 @@ public class ModelManager implements Model {
         this.bloodNet = new BloodNet(bloodNet);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.bloodNet.getPersonList());
+        sortedFilteredPersons = new SortedList<>(filteredPersons);
         filteredDonationRecords = new FilteredList<>(this.bloodNet.getDonationRecordList());
     }
 
@@ -130,13 +134,21 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedFilteredPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        sortedFilteredPersons.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredPersons.setPredicate(predicate);
+        sortedFilteredPersons.setComparator(comparator);
     }
 
     //=========== DonationRecord methods =============================================================
@@ -196,7 +208,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return bloodNet.equals(otherModelManager.bloodNet)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortedFilteredPersons.equals(otherModelManager.sortedFilteredPersons)
                 && filteredDonationRecords.equals(otherModelManager.filteredDonationRecords);
     }
 
@@ -0,0 +1,109 @@
+package bloodnet.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import bloodnet.model.person.Person;
+
+/**
+ * An inverted index from the lower-cased words in the names of persons to the persons with those words.
+ *
+ * A search only visits the distinct words of all names, which are far fewer than the persons themselves,
+ * and then takes the union of the persons of the matching words.
+ */
+public class NameIndex {
+
+    private final NavigableMap<String, Set<Person>> personsByToken = new TreeMap<>();
+
+    /**
+     * Adds {@code person} under every word of their name.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person)) {
+            personsByToken.computeIfAbsent(token, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from every word of their name.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person)) {
+            Set<Person> persons = personsByToken.get(token);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByToken.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        personsByToken.clear();
+    }
+
+    /**
+     * Returns every person with a word in their name that contains any of {@code keywords}, ignoring case.
+     * This matches {@link bloodnet.commons.util.StringUtil#containsWordIgnoreCase(String, String)}.
+     * Blank keywords match no one.
+     */
+    public Set<Person> findByKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> preppedKeywords = new HashSet<>();
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim().toLowerCase();
+            if (!preppedKeyword.isEmpty()) {
+                preppedKeywords.add(preppedKeyword);
+            }
+        }
+
+        Set<Person> matchingPersons = new HashSet<>();
+        if (preppedKeywords.isEmpty()) {
+            return matchingPersons;
+        }
+        for (Map.Entry<String, Set<Person>> entry : personsByToken.entrySet()) {
+            if (containsAny(entry.getKey(), preppedKeywords)) {
+                matchingPersons.addAll(entry.getValue());
+            }
+        }
+        return matchingPersons;
+    }
+
+    private static boolean containsAny(String token, Set<String> keywords) {
+        if (keywords.contains(token)) {
+            return true;
+        }
+        for (String keyword : keywords) {
+            if (token.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the distinct lower-cased words in the name of {@code person}.
+     */
+    static Set<String> tokenize(Person person) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : person.getName().fullName.split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(word.toLowerCase());
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,116 @@
+package bloodnet.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import bloodnet.model.person.Person;
+
+/**
+ * An index from every run of three characters (trigram) in the lower-cased names of persons to the persons
+ * whose names contain it.
+ *
+ * A partial name is matched by counting, for every person, how many of the trigrams of the partial name
+ * also appear in their name. Only the persons under those trigrams are visited.
+ */
+public class NameTrigramIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Person>> personsByTrigram = new HashMap<>();
+
+    /**
+     * Adds {@code person} under every trigram of their name.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String trigram : toTrigrams(normalize(person.getName().fullName))) {
+            personsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from every trigram of their name.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String trigram : toTrigrams(normalize(person.getName().fullName))) {
+            Set<Person> persons = personsByTrigram.get(trigram);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        personsByTrigram.clear();
+    }
+
+    /**
+     * Returns the persons whose names share at least half of the trigrams of {@code partialName}, ignoring case,
+     * together with the number of trigrams shared.
+     * A {@code partialName} shorter than a trigram matches the names that contain it, with an overlap of 1.
+     */
+    public Map<Person, Integer> findByPartialName(String partialName) {
+        requireNonNull(partialName);
+        String preppedPartialName = normalize(partialName);
+        Map<Person, Integer> overlaps = new HashMap<>();
+        if (preppedPartialName.isEmpty()) {
+            return overlaps;
+        }
+
+        if (preppedPartialName.length() < GRAM_LENGTH) {
+            for (Map.Entry<String, Set<Person>> entry : personsByTrigram.entrySet()) {
+                if (entry.getKey().contains(preppedPartialName)) {
+                    entry.getValue().forEach(person -> overlaps.put(person, 1));
+                }
+            }
+            return overlaps;
+        }
+
+        Set<String> trigrams = toTrigrams(preppedPartialName);
+        for (String trigram : trigrams) {
+            for (Person person : personsByTrigram.getOrDefault(trigram, Set.of())) {
+                overlaps.merge(person, 1, Integer::sum);
+            }
+        }
+
+        int minimumOverlap = (trigrams.size() + 1) / 2;
+        overlaps.values().removeIf(overlap -> overlap < minimumOverlap);
+        return overlaps;
+    }
+
+    /**
+     * Lower-cases {@code name} and collapses every run of whitespace into a single space.
+     */
+    static String normalize(String name) {
+        return name.trim().replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    /**
+     * Returns every trigram of {@code text}, or {@code text} itself if it is shorter than a trigram.
+     */
+    static Set<String> toTrigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        if (text.length() < GRAM_LENGTH) {
+            if (!text.isEmpty()) {
+                trigrams.add(text);
+            }
+            return trigrams;
+        }
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,72 @@
+package bloodnet.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import bloodnet.model.person.Name;
+import bloodnet.model.person.Person;
+
+/**
+ * An index from the Soundex codes of the words in the names of persons to the persons with those words.
+ *
+ * The codes of a name are only kept here, computed as its person is added or removed, so a search only
+ * computes the codes of its keywords and then visits the persons under those codes.
+ */
+public class PhoneticNameIndex {
+
+    private final Map<String, Set<Person>> personsByCode = new HashMap<>();
+
+    /**
+     * Adds {@code person} under the code of every word of their name.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String code : Name.toPhoneticCodes(person.getName().fullName)) {
+            personsByCode.computeIfAbsent(code, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the code of every word of their name.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String code : Name.toPhoneticCodes(person.getName().fullName)) {
+            Set<Person> persons = personsByCode.get(code);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByCode.remove(code);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        personsByCode.clear();
+    }
+
+    /**
+     * Returns every person with a word in their name that sounds like any of {@code keywords}.
+     * Keywords without any letters match no one.
+     */
+    public Set<Person> findByKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matchingPersons = new HashSet<>();
+        for (String keyword : keywords) {
+            for (String code : Name.toPhoneticCodes(keyword)) {
+                matchingPersons.addAll(personsByCode.getOrDefault(code, Set.of()));
+            }
+        }
+        return matchingPersons;
+    }
+}
@@ -1,7 +1,20 @@
 package bloodnet.model;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import bloodnet.model.donationrecord.DonationColumns;
 import bloodnet.model.donationrecord.DonationRecord;
+import bloodnet.model.person.AgeRange;
+import bloodnet.model.person.BloodType;
+import bloodnet.model.person.Email;
 import bloodnet.model.person.Person;
+import bloodnet.model.person.Phone;
 import javafx.collections.ObservableList;
 
 /**
@@ -9,6 +22,19 @@ import javafx.collections.ObservableList;
  */
 public interface ReadOnlyBloodNet {
 
+    /**
+     * Returns a number that changes whenever a person or donation record is added, edited or removed.
+     * Two calls returning the same number mean that the data has not changed in between.
+     */
+    long getVersion();
+
+    /**
+     * Returns the changes made to the persons and donation records since this bloodnet was at {@code version},
+     * in the order they were made, or an empty {@code Optional} if they are not known, such as when the data has
+     * since been replaced as a whole, or was never at {@code version}.
+     */
+    Optional<List<BloodNetChange>> getChangesSince(long version);
+
     /**
      * Returns an unmodifiable view of the persons list.
      * This list will not contain any duplicate persons.
@@ -21,4 +47,77 @@ public interface ReadOnlyBloodNet {
      */
     ObservableList<DonationRecord> getDonationRecordList();
 
+    /**
+     * Returns the person with the given {@code id}, if any.
+     */
+    Optional<Person> getPersonById(UUID id);
+
+    /**
+     * Returns the donationRecord with the given {@code id}, if any.
+     */
+    Optional<DonationRecord> getDonationRecordById(UUID id);
+
+    /**
+     * Returns an unmodifiable view of the donationRecords of the person with the given {@code personId},
+     * keyed and ordered by donation date.
+     */
+    NavigableMap<LocalDate, DonationRecord> getDonationTimeline(UUID personId);
+
+    /**
+     * Returns true if {@code person} is eligible to donate blood on {@code date}.
+     */
+    boolean isEligibleToDonate(Person person, LocalDate date);
+
+    /**
+     * Returns an unmodifiable view of the persons with the given blood type.
+     */
+    Set<Person> getPersonsWithBloodType(BloodType.Kind kind);
+
+    /**
+     * Returns every person with a word in their name that contains any of {@code keywords}, ignoring case.
+     */
+    Set<Person> findPersonsByNameKeywords(List<String> keywords);
+
+    /**
+     * Returns the persons whose names partially match {@code partialName}, ignoring case,
+     * together with how closely each name matches. A higher number is a closer match.
+     */
+    Map<Person, Integer> findPersonsByPartialName(String partialName);
+
+    /**
+     * Returns the persons with a word in their name that sounds like any of {@code keywords}.
+     */
+    Set<Person> findPersonsBySimilarName(List<String> keywords);
+
+    /**
+     * Returns the persons with the given {@code phone}.
+     */
+    List<Person> findPersonsByPhone(Phone phone);
+
+    /**
+     * Returns the persons with the given {@code email}.
+     */
+    List<Person> findPersonsByEmail(Email email);
+
+    /**
+     * Returns the persons whose ages on {@code date} are within {@code ageRange}.
+     */
+    Set<Person> getPersonsInAgeRange(AgeRange ageRange, LocalDate date);
+
+    /**
+     * Returns the donation records with donation dates from {@code startDate} to {@code endDate}, both inclusive,
+     * ordered by donation date.
+     */
+    List<DonationRecord> getDonationRecordsBetween(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns the number of donations and the total volume of blood collected from donors with blood type
+     * {@code kind} from {@code startDate} to {@code endDate}, both inclusive.
+     */
+    InventoryTotals getInventoryTotals(BloodType.Kind kind, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns a columnar copy of the donation records list, for reports that scan every donation record.
+     */
+    DonationColumns getDonationColumns();
 }
@@ -12,6 +12,11 @@ public class BloodVolume {
     public static final String MESSAGE_CONSTRAINTS =
             "Blood volume should be a positive whole number less than 500 millilitres, as per the official guidelines.";
 
+    private static final int VOLUME_LIMIT = 500;
+
+    // Every volume is shared through of(String) once it is first asked for, indexed by the volume itself.
+    private static final BloodVolume[] INSTANCES = new BloodVolume[VOLUME_LIMIT];
+
     public final Integer volume;
 
     /**
@@ -25,6 +30,24 @@ public class BloodVolume {
         this.volume = Integer.parseInt(volume);
     }
 
+    /**
+     * Returns the shared {@code BloodVolume} of {@code volume} millilitres.
+     *
+     * @param volume A valid volume.
+     */
+    public static BloodVolume of(String volume) {
+        requireNonNull(volume);
+        checkArgument(isValidBloodVolume(volume), MESSAGE_CONSTRAINTS);
+        int parsedVolume = Integer.parseInt(volume);
+        BloodVolume instance = INSTANCES[parsedVolume];
+        if (instance == null) {
+            // Instances are immutable, so a race only creates an extra instance that is then dropped.
+            instance = new BloodVolume(volume);
+            INSTANCES[parsedVolume] = instance;
+        }
+        return instance;
+    }
+
     /**
      * Returns true if the blood volume is valid.
      */
@@ -40,7 +63,7 @@ public class BloodVolume {
             if (i <= 0) {
                 return false;
             }
-            if (i >= 500) {
+            if (i >= VOLUME_LIMIT) {
                 return false;
             }
         } catch (NumberFormatException e) {
@@ -0,0 +1,185 @@
+package bloodnet.model.donationrecord;
+
+import static bloodnet.commons.util.AppUtil.checkArgument;
+import static bloodnet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A columnar copy of a list of donationRecords, for reports that scan every donation.
+ *
+ * Row i of every column describes the donationRecord at position i of the list: its donation date as an epoch day,
+ * its blood volume in millilitres, and a dense number standing for its donor. Scans only read these primitive
+ * arrays, without visiting the donationRecords themselves.
+ * Only {@link UniqueDonationRecordList} may change the columns, which it does alongside its backing list.
+ */
+public class DonationColumns {
+
+    public static final String MESSAGE_INVALID_PERIOD_LENGTH = "Period length must be positive.";
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int size;
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private int[] bloodVolumes = new int[INITIAL_CAPACITY];
+    private int[] donorNumbers = new int[INITIAL_CAPACITY];
+
+    // Donor numbers are handed out in order of first appearance and never reused.
+    private final Map<UUID, Integer> donorNumbersById = new HashMap<>();
+    private final List<UUID> donorIdsByNumber = new ArrayList<>();
+
+    /**
+     * Returns the number of rows in the columns.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of donations made from {@code startDate} to {@code endDate}, both inclusive.
+     */
+    public int getDonationCount(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        long startEpochDay = startDate.toEpochDay();
+        long endEpochDay = endDate.toEpochDay();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int epochDay = epochDays[i];
+            if (epochDay >= startEpochDay && epochDay <= endEpochDay) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the total volume of blood, in millilitres, donated from {@code startDate} to {@code endDate},
+     * both inclusive.
+     */
+    public long getTotalBloodVolume(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        long startEpochDay = startDate.toEpochDay();
+        long endEpochDay = endDate.toEpochDay();
+        long totalBloodVolume = 0;
+        for (int i = 0; i < size; i++) {
+            int epochDay = epochDays[i];
+            if (epochDay >= startEpochDay && epochDay <= endEpochDay) {
+                totalBloodVolume += bloodVolumes[i];
+            }
+        }
+        return totalBloodVolume;
+    }
+
+    /**
+     * Returns the number of donations made in each consecutive period of {@code periodLength} days, starting from
+     * {@code startDate}, up to and including {@code endDate}. The last period may be cut short by {@code endDate}.
+     */
+    public int[] getDonationCountsPerPeriod(LocalDate startDate, LocalDate endDate, int periodLength) {
+        requireAllNonNull(startDate, endDate);
+        checkArgument(periodLength > 0, MESSAGE_INVALID_PERIOD_LENGTH);
+        long startEpochDay = startDate.toEpochDay();
+        long endEpochDay = endDate.toEpochDay();
+        if (startEpochDay > endEpochDay) {
+            return new int[0];
+        }
+
+        int[] counts = new int[(int) ((endEpochDay - startEpochDay) / periodLength + 1)];
+        for (int i = 0; i < size; i++) {
+            int epochDay = epochDays[i];
+            if (epochDay >= startEpochDay && epochDay <= endEpochDay) {
+                counts[(int) ((epochDay - startEpochDay) / periodLength)]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of donations each donor made from {@code startDate} to {@code endDate}, both inclusive,
+     * keyed by the ID of the donor. Donors without donations in the range are left out.
+     */
+    public Map<UUID, Integer> getDonationCountsByDonor(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        long startEpochDay = startDate.toEpochDay();
+        long endEpochDay = endDate.toEpochDay();
+        int[] countsByDonorNumber = new int[donorIdsByNumber.size()];
+        for (int i = 0; i < size; i++) {
+            int epochDay = epochDays[i];
+            if (epochDay >= startEpochDay && epochDay <= endEpochDay) {
+                countsByDonorNumber[donorNumbers[i]]++;
+            }
+        }
+
+        Map<UUID, Integer> countsByDonor = new HashMap<>();
+        for (int donorNumber = 0; donorNumber < countsByDonorNumber.length; donorNumber++) {
+            if (countsByDonorNumber[donorNumber] > 0) {
+                countsByDonor.put(donorIdsByNumber.get(donorNumber), countsByDonorNumber[donorNumber]);
+            }
+        }
+        return countsByDonor;
+    }
+
+    /**
+     * Appends a row for {@code donationRecord}.
+     */
+    void add(DonationRecord donationRecord) {
+        if (size == epochDays.length) {
+            int newCapacity = epochDays.length * 2;
+            epochDays = Arrays.copyOf(epochDays, newCapacity);
+            bloodVolumes = Arrays.copyOf(bloodVolumes, newCapacity);
+            donorNumbers = Arrays.copyOf(donorNumbers, newCapacity);
+        }
+        writeRow(size, donationRecord);
+        size++;
+    }
+
+    /**
+     * Replaces row {@code row} with a row for {@code donationRecord}.
+     */
+    void set(int row, DonationRecord donationRecord) {
+        assert row >= 0 && row < size;
+        writeRow(row, donationRecord);
+    }
+
+    /**
+     * Removes row {@code row}, moving every later row back by one.
+     */
+    void remove(int row) {
+        assert row >= 0 && row < size;
+        int rowsAfter = size - row - 1;
+        System.arraycopy(epochDays, row + 1, epochDays, row, rowsAfter);
+        System.arraycopy(bloodVolumes, row + 1, bloodVolumes, row, rowsAfter);
+        System.arraycopy(donorNumbers, row + 1, donorNumbers, row, rowsAfter);
+        size--;
+    }
+
+    /**
+     * Replaces every row with the rows for {@code donationRecords}, in order.
+     */
+    void setAll(List<DonationRecord> donationRecords) {
+        int capacity = Math.max(INITIAL_CAPACITY, donationRecords.size());
+        epochDays = new int[capacity];
+        bloodVolumes = new int[capacity];
+        donorNumbers = new int[capacity];
+        donorNumbersById.clear();
+        donorIdsByNumber.clear();
+        size = 0;
+        for (DonationRecord donationRecord : donationRecords) {
+            add(donationRecord);
+        }
+    }
+
+    private void writeRow(int row, DonationRecord donationRecord) {
+        epochDays[row] = Math.toIntExact(donationRecord.getDonationDate().getValue().toEpochDay());
+        bloodVolumes[row] = donationRecord.getBloodVolume().volume;
+        donorNumbers[row] = donorNumbersById.computeIfAbsent(donationRecord.getPersonId(), personId -> {
+            donorIdsByNumber.add(personId);
+            return donorIdsByNumber.size() - 1;
+        });
+    }
+}
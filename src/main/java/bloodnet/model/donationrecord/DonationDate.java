@@ -7,6 +7,8 @@ import static java.util.Objects.requireNonNull;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a Donation Date (DD-MM-YYYY) in DonationRecordList
@@ -20,6 +22,9 @@ public class DonationDate {
     public static final DateTimeFormatter DATE_FORMATTER =
             DateTimeFormatter.ofPattern("dd-MM-uuuu").withResolverStyle(STRICT);
 
+    // Every date is shared through of(String) once it is first asked for.
+    private static final Map<LocalDate, DonationDate> INSTANCES = new ConcurrentHashMap<>();
+
     public final LocalDate value;
 
     /**
@@ -33,6 +38,21 @@ public class DonationDate {
         value = LocalDate.parse(donationDate, DATE_FORMATTER);
     }
 
+    private DonationDate(LocalDate value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the shared {@code DonationDate} written as {@code donationDate}.
+     *
+     * @param donationDate A valid donation date.
+     */
+    public static DonationDate of(String donationDate) {
+        requireNonNull(donationDate);
+        checkArgument(isValidDonationDate(donationDate), MESSAGE_CONSTRAINTS);
+        return INSTANCES.computeIfAbsent(LocalDate.parse(donationDate, DATE_FORMATTER), DonationDate::new);
+    }
+
     /**
      * Returns true if a given string is a valid donation date.
      */
@@ -55,7 +75,7 @@ public class DonationDate {
         LocalDate todayDate = LocalDate.now();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
         String formattedTodayDate = todayDate.format(formatter);
-        return new DonationDate(formattedTodayDate);
+        return DonationDate.of(formattedTodayDate);
     }
 
     public LocalDate getValue() {
@@ -6,15 +6,16 @@ import java.time.LocalDate;
 import java.time.Period;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
 import bloodnet.commons.util.ToStringBuilder;
+import bloodnet.model.ReadOnlyBloodNet;
 import bloodnet.model.person.DateOfBirth;
 import bloodnet.model.person.Person;
-import javafx.collections.ObservableList;
 
 /**
  * Represents a Donation Record in BloodNet.
@@ -37,17 +38,13 @@ public class DonationRecord {
 
     // Identity fields
     private UUID id;
+    // Shares the id instance of the donor where possible, so that it is not repeated in every donation record
     private final UUID personId;
     private final DonationDate donationDate;
 
     // Data fields
     private final BloodVolume bloodVolume;
 
-    // Fields which aren't actually stored in the database, but displayed
-    // in the UI
-    private String donorName;
-    private String donorPhoneNumber;
-
     /**
      * Every field other than ID must be present and not null.
      */
@@ -80,22 +77,6 @@ public class DonationRecord {
         return bloodVolume;
     }
 
-    public void setDonorName(String donorName) {
-        this.donorName = donorName;
-    }
-
-    public String getDonorName() {
-        return donorName;
-    }
-
-    public void setDonorPhoneNumber(String donorPhoneNumber) {
-        this.donorPhoneNumber = donorPhoneNumber;
-    }
-
-    public String getDonorPhoneNumber() {
-        return donorPhoneNumber;
-    }
-
     /**
      * Returns true if both records have the same date and personId.
      * This defines a weaker notion of equality between two donation records.
@@ -142,22 +123,18 @@ public class DonationRecord {
      *
      * @return an {@code ArrayList} containing a list of validation error strings
      */
-    public ArrayList<String> validate(ObservableList<Person> fullPersonList,
-                                      ObservableList<DonationRecord> fullDonationRecordList) {
+    public ArrayList<String> validate(ReadOnlyBloodNet bloodNet) {
         ArrayList<String> validationErrorStrings = new ArrayList<>();
 
         // We try to resolve the personId to a person by
-        // checking against the FULL personList in the BloodNet,
-        // not just against the filteredPersonList.
+        // looking it up in the FULL BloodNet,
+        // not just in the filteredPersonList.
 
         // This is to allow this method to be used
         // by the isEligibleToDonate predicate,
         // which may create a DonationRecord object
         // with a personId that is not in the filteredPersonList.
-        Person person = fullPersonList.stream()
-                .filter(p -> p.getId().equals(personId))
-                .findFirst()
-                .orElseThrow();
+        Person person = bloodNet.getPersonById(personId).orElseThrow();
 
         LocalDate donationDateValue = donationDate.getValue();
         LocalDate dateOfBirthValue = person.getDateOfBirth().getValue();
@@ -172,34 +149,32 @@ public class DonationRecord {
             validationErrorStrings.add(errorString);
         }
 
-        // If .validate() is called when trying to edit a donation record,
-        // we want to filter fullDonationRecordList to only include those records that are
-        // not the record that is currently being edited.
+        // Only this donor's donation records are looked at, ordered by donation date.
+        NavigableMap<LocalDate, DonationRecord> donorTimeline = bloodNet.getDonationTimeline(personId);
 
-        // However, if .validate() is called by IsEligibleToDonatePredicate#test(Person)
-        // or by AddDonationCommand#execute(),
-        // we do not want to impose the above-mentioned filter.
+        // If .validate() is called when trying to edit a donation record,
+        // the record that is currently being edited must not count as its own neighbour.
+        // It is skipped by its id, which stays the same across the edit.
 
         // If this.getId() == null, this method
         // is being called by either IsEligibleToDonatePredicate#test(Person)
-        // or AddDonationCommand#execute().
-        boolean isDonationRecordIdNull = this.getId() == null;
-
-        // Find predecessor (last donation before donationDate)
-        Optional<DonationDate> predecessorDonationDateOptional = fullDonationRecordList.stream()
-                .filter(donationRecord -> donationRecord.getPersonId().equals(person.getId()))
-                .filter(donationRecord -> isDonationRecordIdNull || !donationRecord.getId().equals(this.getId()))
-                .map(DonationRecord::getDonationDate)
-                .filter(donationDate -> !donationDate.getValue().isAfter(donationDateValue))
-                .max(Comparator.comparing(DonationDate::getValue));
-
-        // Find successor (first donation after donationDate)
-        Optional<DonationDate> successorDonationDateOptional = fullDonationRecordList.stream()
-                .filter(donationRecord -> donationRecord.getPersonId().equals(person.getId()))
-                .filter(donationRecord -> isDonationRecordIdNull || !donationRecord.getId().equals(this.getId()))
-                .map(DonationRecord::getDonationDate)
-                .filter(donationDate -> !donationDate.getValue().isBefore(donationDateValue))
-                .min(Comparator.comparing(DonationDate::getValue));
+        // or AddDonationCommand#execute(), and nothing is skipped.
+
+        // Find predecessor (last donation on or before donationDate)
+        Map.Entry<LocalDate, DonationRecord> predecessorEntry = donorTimeline.floorEntry(donationDateValue);
+        if (predecessorEntry != null && isSameId(predecessorEntry.getValue())) {
+            predecessorEntry = donorTimeline.lowerEntry(predecessorEntry.getKey());
+        }
+        Optional<DonationDate> predecessorDonationDateOptional = Optional.ofNullable(predecessorEntry)
+                .map(entry -> entry.getValue().getDonationDate());
+
+        // Find successor (first donation on or after donationDate)
+        Map.Entry<LocalDate, DonationRecord> successorEntry = donorTimeline.ceilingEntry(donationDateValue);
+        if (successorEntry != null && isSameId(successorEntry.getValue())) {
+            successorEntry = donorTimeline.higherEntry(successorEntry.getKey());
+        }
+        Optional<DonationDate> successorDonationDateOptional = Optional.ofNullable(successorEntry)
+                .map(entry -> entry.getValue().getDonationDate());
 
         // 2. Days between predecessor and donationDate must be >= 84
         if (predecessorDonationDateOptional.isPresent()) {
@@ -253,6 +228,13 @@ public class DonationRecord {
         return validationErrorStrings;
     }
 
+    /**
+     * Returns true if this donation record has an id and {@code other} has the same id.
+     */
+    private boolean isSameId(DonationRecord other) {
+        return id != null && id.equals(other.getId());
+    }
+
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
@@ -276,8 +258,8 @@ public class DonationRecord {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(id, personId, donationDate, bloodVolume);
+        // The id is not part of equality, and is assigned after the record is created, so it is left out
+        return Objects.hash(personId, donationDate, bloodVolume);
     }
 
     @Override
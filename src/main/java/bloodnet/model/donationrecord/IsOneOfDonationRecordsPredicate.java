@@ -0,0 +1,56 @@
+package bloodnet.model.donationrecord;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import bloodnet.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code DonationRecord} is one of the donation records given, such as the result of a search
+ * through an index.
+ * Donation records are matched by id, so a donation record stays matched after being edited.
+ */
+public class IsOneOfDonationRecordsPredicate implements Predicate<DonationRecord> {
+    private final Set<UUID> ids;
+
+    /**
+     * Constructs an {@code IsOneOfDonationRecordsPredicate} that matches {@code donationRecords}.
+     */
+    public IsOneOfDonationRecordsPredicate(Collection<DonationRecord> donationRecords) {
+        requireNonNull(donationRecords);
+        ids = new HashSet<>();
+        for (DonationRecord donationRecord : donationRecords) {
+            ids.add(donationRecord.getId());
+        }
+    }
+
+    @Override
+    public boolean test(DonationRecord donationRecord) {
+        return ids.contains(donationRecord.getId());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IsOneOfDonationRecordsPredicate)) {
+            return false;
+        }
+
+        IsOneOfDonationRecordsPredicate otherIsOneOfDonationRecordsPredicate = (IsOneOfDonationRecordsPredicate) other;
+        return ids.equals(otherIsOneOfDonationRecordsPredicate.ids);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("ids", ids).toString();
+    }
+}
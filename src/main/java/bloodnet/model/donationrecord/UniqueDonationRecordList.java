@@ -3,8 +3,21 @@ package bloodnet.model.donationrecord;
 import static bloodnet.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
 
 import bloodnet.model.donationrecord.exceptions.DonationRecordNotFoundException;
 import bloodnet.model.donationrecord.exceptions.DuplicateDonationRecordException;
@@ -21,6 +34,14 @@ import javafx.collections.ObservableList;
  * DonationRecord#equals(Object) so
  * as to ensure that the donationRecord with exactly the same fields will be removed.
  * <p>
+ * The identity fields of every donationRecord in the list are also kept in a hash index, so that
+ * duplicate checks do not need to scan the whole list. DonationRecords that have been assigned an ID are
+ * additionally indexed by that ID, and every donor's donationRecords are kept ordered by donation date
+ * and counted. All donationRecords are also kept ordered by donation date, so that date ranges can be
+ * read without scanning the list. The position of every donationRecord in the list is kept too, so that
+ * edits and removals do not need to search the list. Once requested, a columnar copy of the list is
+ * kept as well, for reports that scan every donationRecord.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see DonationRecord#isSameDonationRecord(DonationRecord)
@@ -30,13 +51,76 @@ public class UniqueDonationRecordList implements Iterable<DonationRecord> {
     private final ObservableList<DonationRecord> internalList = FXCollections.observableArrayList();
     private final ObservableList<DonationRecord> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<IdentityKey> identityIndex = new HashSet<>();
+    private final Map<UUID, DonationRecord> idIndex = new HashMap<>();
+    private final Map<DonationRecord, Integer> positionIndex = new HashMap<>();
+    private int firstStalePosition;
+    private final Map<UUID, NavigableMap<LocalDate, DonationRecord>> timelineIndex = new HashMap<>();
+    private final Map<UUID, NavigableMap<LocalDate, DonationRecord>> timelineViews = new HashMap<>();
+    private final Map<UUID, Integer> donationCounts = new HashMap<>();
+    private final NavigableMap<LocalDate, List<DonationRecord>> dateIndex = new TreeMap<>();
+    private DonationColumns columns;
 
     /**
      * Returns true if the list contains an equivalent donationRecord as the given argument.
      */
     public boolean contains(DonationRecord toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameDonationRecord);
+        return identityIndex.contains(new IdentityKey(toCheck));
+    }
+
+    /**
+     * Returns the donationRecord in the list with the given {@code id}, if any.
+     */
+    public Optional<DonationRecord> getById(UUID id) {
+        requireNonNull(id);
+        return Optional.ofNullable(idIndex.get(id));
+    }
+
+    /**
+     * Returns an unmodifiable view of the donationRecords of the person with the given {@code personId},
+     * keyed and ordered by donation date.
+     */
+    public NavigableMap<LocalDate, DonationRecord> getTimeline(UUID personId) {
+        requireNonNull(personId);
+        NavigableMap<LocalDate, DonationRecord> timelineView = timelineViews.get(personId);
+        return timelineView == null ? Collections.emptyNavigableMap() : timelineView;
+    }
+
+    /**
+     * Returns the number of donationRecords in the list of the person with the given {@code personId}.
+     */
+    public int getDonationCount(UUID personId) {
+        requireNonNull(personId);
+        return donationCounts.getOrDefault(personId, 0);
+    }
+
+    /**
+     * Returns the donationRecords in the list with donation dates from {@code startDate} to {@code endDate},
+     * both inclusive, ordered by donation date.
+     */
+    public List<DonationRecord> getDonationRecordsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        List<DonationRecord> donationRecords = new ArrayList<>();
+        if (startDate.isAfter(endDate)) {
+            return donationRecords;
+        }
+        for (List<DonationRecord> donationRecordsOnDate : dateIndex.subMap(startDate, true, endDate, true).values()) {
+            donationRecords.addAll(donationRecordsOnDate);
+        }
+        return donationRecords;
+    }
+
+    /**
+     * Returns a columnar copy of the list, which is kept up to date with the list from then on.
+     * The columns are only built on the first call, so lists that are never scanned do not pay for them.
+     */
+    public DonationColumns getColumns() {
+        if (columns == null) {
+            columns = new DonationColumns();
+            columns.setAll(internalList);
+        }
+        return columns;
     }
 
     /**
@@ -49,6 +133,11 @@ public class UniqueDonationRecordList implements Iterable<DonationRecord> {
             throw new DuplicateDonationRecordException();
         }
         internalList.add(toAdd);
+        positionIndex.put(toAdd, internalList.size() - 1);
+        index(toAdd);
+        if (columns != null) {
+            columns.add(toAdd);
+        }
     }
 
     /**
@@ -60,7 +149,7 @@ public class UniqueDonationRecordList implements Iterable<DonationRecord> {
     public void setDonationRecord(DonationRecord target, DonationRecord editedDonationRecord) {
         requireAllNonNull(target, editedDonationRecord);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new DonationRecordNotFoundException();
         }
@@ -69,7 +158,14 @@ public class UniqueDonationRecordList implements Iterable<DonationRecord> {
             throw new DuplicateDonationRecordException();
         }
 
-        internalList.set(index, editedDonationRecord);
+        DonationRecord replaced = internalList.set(index, editedDonationRecord);
+        positionIndex.remove(replaced);
+        positionIndex.put(editedDonationRecord, index);
+        unindex(replaced);
+        index(editedDonationRecord);
+        if (columns != null) {
+            columns.set(index, editedDonationRecord);
+        }
     }
 
     /**
@@ -78,27 +174,42 @@ public class UniqueDonationRecordList implements Iterable<DonationRecord> {
      */
     public void remove(DonationRecord toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new DonationRecordNotFoundException();
         }
+        DonationRecord removed = internalList.remove(index);
+        positionIndex.remove(removed);
+        // Every later element has moved back by one, so their positions are refreshed when next needed.
+        firstStalePosition = Math.min(firstStalePosition, index);
+        unindex(removed);
+        if (columns != null) {
+            columns.remove(index);
+        }
     }
 
     public void setDonationRecords(UniqueDonationRecordList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindexAll();
     }
 
     /**
      * Replaces the contents of this list with {@code donationRecords}.
      * {@code donationRecords} must not contain duplicate donationRecords.
+     *
+     * @throws DuplicateDonationRecordException with the groups of duplicate donationRecords in
+     *     {@code donationRecords}, if there are any.
      */
     public void setDonationRecords(List<DonationRecord> donationRecords) {
         requireAllNonNull(donationRecords);
-        if (!donationRecordsAreUnique(donationRecords)) {
-            throw new DuplicateDonationRecordException();
+        List<List<DonationRecord>> duplicateGroups = findDuplicateGroups(donationRecords);
+        if (!duplicateGroups.isEmpty()) {
+            throw new DuplicateDonationRecordException(duplicateGroups);
         }
 
         internalList.setAll(donationRecords);
+        reindexAll();
     }
 
     /**
@@ -139,16 +250,148 @@ public class UniqueDonationRecordList implements Iterable<DonationRecord> {
     }
 
     /**
-     * Returns true if {@code donationRecords} contains only unique donation records.
+     * Adds {@code donationRecord} to every index kept alongside the backing list.
      */
-    private boolean donationRecordsAreUnique(List<DonationRecord> donationRecords) {
-        for (int i = 0; i < donationRecords.size() - 1; i++) {
-            for (int j = i + 1; j < donationRecords.size(); j++) {
-                if (donationRecords.get(i).isSameDonationRecord(donationRecords.get(j))) {
-                    return false;
-                }
+    private void index(DonationRecord donationRecord) {
+        identityIndex.add(new IdentityKey(donationRecord));
+        if (donationRecord.getId() != null) {
+            idIndex.put(donationRecord.getId(), donationRecord);
+        }
+        timelineIndex.computeIfAbsent(donationRecord.getPersonId(), personId -> {
+            NavigableMap<LocalDate, DonationRecord> timeline = new TreeMap<>();
+            timelineViews.put(personId, Collections.unmodifiableNavigableMap(timeline));
+            return timeline;
+        }).put(donationRecord.getDonationDate().getValue(), donationRecord);
+        donationCounts.merge(donationRecord.getPersonId(), 1, Integer::sum);
+        dateIndex.computeIfAbsent(donationRecord.getDonationDate().getValue(), date -> new ArrayList<>())
+                .add(donationRecord);
+    }
+
+    /**
+     * Removes {@code donationRecord} from every index kept alongside the backing list.
+     */
+    private void unindex(DonationRecord donationRecord) {
+        identityIndex.remove(new IdentityKey(donationRecord));
+        if (donationRecord.getId() != null) {
+            idIndex.remove(donationRecord.getId(), donationRecord);
+        }
+        NavigableMap<LocalDate, DonationRecord> timeline = timelineIndex.get(donationRecord.getPersonId());
+        if (timeline != null) {
+            timeline.remove(donationRecord.getDonationDate().getValue(), donationRecord);
+            if (timeline.isEmpty()) {
+                timelineIndex.remove(donationRecord.getPersonId());
+                timelineViews.remove(donationRecord.getPersonId());
+            }
+        }
+        // Removes the count once it drops to zero, so that only persons with donationRecords are counted.
+        donationCounts.computeIfPresent(donationRecord.getPersonId(), (personId, count) ->
+                count > 1 ? count - 1 : null);
+        List<DonationRecord> donationRecordsOnDate = dateIndex.get(donationRecord.getDonationDate().getValue());
+        if (donationRecordsOnDate != null) {
+            donationRecordsOnDate.remove(donationRecord);
+            if (donationRecordsOnDate.isEmpty()) {
+                dateIndex.remove(donationRecord.getDonationDate().getValue());
             }
         }
-        return true;
+    }
+
+    /**
+     * Returns the position of {@code donationRecord} in the backing list, or -1 if it is not in the list.
+     */
+    private int indexOf(DonationRecord donationRecord) {
+        Integer position = positionIndex.get(donationRecord);
+        if (position == null) {
+            return -1;
+        }
+        if (position >= firstStalePosition) {
+            refreshStalePositions();
+            position = positionIndex.get(donationRecord);
+        }
+        return position;
+    }
+
+    /**
+     * Recomputes the positions of the elements from the first position that may be out of date.
+     */
+    private void refreshStalePositions() {
+        for (int i = firstStalePosition; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i), i);
+        }
+        firstStalePosition = internalList.size();
+    }
+
+    /**
+     * Rebuilds every index from the contents of the backing list.
+     */
+    private void reindexAll() {
+        positionIndex.clear();
+        firstStalePosition = 0;
+        refreshStalePositions();
+        identityIndex.clear();
+        idIndex.clear();
+        timelineIndex.clear();
+        timelineViews.clear();
+        donationCounts.clear();
+        dateIndex.clear();
+        for (DonationRecord donationRecord : internalList) {
+            index(donationRecord);
+        }
+        if (columns != null) {
+            columns.setAll(internalList);
+        }
+    }
+
+    /**
+     * Returns every group of donationRecords in {@code donationRecords} that share the same identity, in order of
+     * first occurrence. Each returned group contains at least two donationRecords. An empty list is returned if all
+     * donationRecords are unique. Runs in a single pass over {@code donationRecords}.
+     */
+    public static List<List<DonationRecord>> findDuplicateGroups(List<DonationRecord> donationRecords) {
+        requireNonNull(donationRecords);
+        Map<IdentityKey, DonationRecord> firstSeen = new HashMap<>();
+        Map<IdentityKey, List<DonationRecord>> duplicateGroups = new LinkedHashMap<>();
+
+        for (DonationRecord donationRecord : donationRecords) {
+            IdentityKey key = new IdentityKey(donationRecord);
+            DonationRecord firstDonationRecord = firstSeen.putIfAbsent(key, donationRecord);
+            if (firstDonationRecord != null) {
+                duplicateGroups.computeIfAbsent(key, unused -> new ArrayList<>(List.of(firstDonationRecord)))
+                        .add(donationRecord);
+            }
+        }
+        return new ArrayList<>(duplicateGroups.values());
+    }
+
+    /**
+     * Hash key over the identity fields compared by {@code DonationRecord#isSameDonationRecord(DonationRecord)}.
+     */
+    private static final class IdentityKey {
+        private final UUID personId;
+        private final DonationDate donationDate;
+
+        IdentityKey(DonationRecord donationRecord) {
+            this.personId = donationRecord.getPersonId();
+            this.donationDate = donationRecord.getDonationDate();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+
+            IdentityKey otherKey = (IdentityKey) other;
+            return personId.equals(otherKey.personId) && donationDate.equals(otherKey.donationDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(personId, donationDate);
+        }
     }
 }
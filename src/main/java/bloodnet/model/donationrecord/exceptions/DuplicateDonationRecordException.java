@@ -1,11 +1,35 @@
 package bloodnet.model.donationrecord.exceptions;
 
+import java.util.List;
+
+import bloodnet.model.donationrecord.DonationRecord;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicateDonationRecordException extends RuntimeException {
+
+    private final List<List<DonationRecord>> duplicateGroups;
+
     public DuplicateDonationRecordException() {
+        this(List.of());
+    }
+
+    /**
+     * Creates a {@code DuplicateDonationRecordException} for the given groups of donation records that share the
+     * same identity.
+     */
+    public DuplicateDonationRecordException(List<List<DonationRecord>> duplicateGroups) {
         super("Operation would result in duplicate donation records");
+        this.duplicateGroups = duplicateGroups;
+    }
+
+    /**
+     * Returns the groups of donation records that share the same identity, if they were found, or an empty list
+     * otherwise.
+     */
+    public List<List<DonationRecord>> getDuplicateGroups() {
+        return duplicateGroups;
     }
 }
@@ -0,0 +1,102 @@
+package bloodnet.model.person;
+
+import static bloodnet.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+
+/**
+ * Represents a range of ages, in whole years, that a Person's age can be filtered by.
+ * Guarantees: immutable; is valid as declared in {@link #isValidAgeRange(String)}
+ */
+public class AgeRange {
+
+    public static final int MAXIMUM_AGE = 130;
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Age range should be of the format MIN_AGE-MAX_AGE, where both ages are whole numbers from 0 to "
+                    + MAXIMUM_AGE + ", and MIN_AGE is not more than MAX_AGE.";
+
+    public static final String VALIDATION_REGEX = "^(\\d{1,3})-(\\d{1,3})$";
+
+    public final int minimumAge;
+    public final int maximumAge;
+
+    /**
+     * Constructs an {@code AgeRange}.
+     *
+     * @param ageRange A valid age range.
+     */
+    public AgeRange(String ageRange) {
+        requireNonNull(ageRange);
+        checkArgument(isValidAgeRange(ageRange), MESSAGE_CONSTRAINTS);
+        String[] ages = ageRange.split("-");
+        minimumAge = Integer.parseInt(ages[0]);
+        maximumAge = Integer.parseInt(ages[1]);
+    }
+
+    /**
+     * Returns true if a given string is a valid age range.
+     */
+    public static boolean isValidAgeRange(String test) {
+        if (!test.matches(VALIDATION_REGEX)) {
+            return false;
+        }
+        String[] ages = test.split("-");
+        int minimumAge = Integer.parseInt(ages[0]);
+        int maximumAge = Integer.parseInt(ages[1]);
+        return minimumAge <= maximumAge && maximumAge <= MAXIMUM_AGE;
+    }
+
+    /**
+     * Returns the latest date of birth, inclusive, of a person within this age range on {@code date}.
+     */
+    public LocalDate getLatestDateOfBirth(LocalDate date) {
+        requireNonNull(date);
+        return date.minusYears(minimumAge);
+    }
+
+    /**
+     * Returns the latest date of birth of a person older than this age range on {@code date}.
+     * Persons within this age range are born strictly after it.
+     */
+    public LocalDate getOlderDateOfBirthBound(LocalDate date) {
+        requireNonNull(date);
+        return date.minusYears(maximumAge + 1L);
+    }
+
+    /**
+     * Returns true if a person born on {@code dateOfBirth} is within this age range on {@code date}.
+     * A person born on 29 February only turns a year older on 1 March in non-leap years.
+     */
+    public boolean contains(LocalDate dateOfBirth, LocalDate date) {
+        requireNonNull(dateOfBirth);
+        return dateOfBirth.isAfter(getOlderDateOfBirthBound(date)) && !dateOfBirth.isAfter(getLatestDateOfBirth(date));
+    }
+
+    @Override
+    public String toString() {
+        return minimumAge + "-" + maximumAge;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AgeRange)) {
+            return false;
+        }
+
+        AgeRange otherAgeRange = (AgeRange) other;
+        return minimumAge == otherAgeRange.minimumAge && maximumAge == otherAgeRange.maximumAge;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * minimumAge + maximumAge;
+    }
+
+}
@@ -3,6 +3,10 @@ package bloodnet.model.person;
 import static bloodnet.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * Represents a Person's blood type in the person list.
  * Guarantees: immutable; is valid as declared in {@link #isValidBloodType(String)}
@@ -12,13 +16,53 @@ public class BloodType {
     public static final String MESSAGE_CONSTRAINTS =
             "Blood type should either be A-, A+, B-, B+, AB-, AB+, O- or O+, and it should not be blank.";
 
-    /*
-     * The first character of the blood type must not be a whitespace,
-     * otherwise " " (a blank string) becomes a valid input.
+    /**
+     * The closed set of blood types, so that blood types can be used as {@code EnumMap} keys or bitmask positions.
      */
-    public static final String VALIDATION_REGEX = "^(A|B|AB|O)[+-]$";
+    public enum Kind {
+        A_NEGATIVE("A-"), A_POSITIVE("A+"),
+        B_NEGATIVE("B-"), B_POSITIVE("B+"),
+        AB_NEGATIVE("AB-"), AB_POSITIVE("AB+"),
+        O_NEGATIVE("O-"), O_POSITIVE("O+");
+
+        private static final Map<String, Kind> KINDS_BY_LABEL = new HashMap<>();
+
+        static {
+            for (Kind kind : values()) {
+                KINDS_BY_LABEL.put(kind.label, kind);
+            }
+        }
+
+        private final String label;
+
+        Kind(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * Returns the blood type written as {@code label}, ignoring case, if it is a valid blood type.
+         */
+        public static Optional<Kind> fromLabel(String label) {
+            requireNonNull(label);
+            return Optional.ofNullable(KINDS_BY_LABEL.get(label.toUpperCase()));
+        }
+    }
+
+    // Every blood type is shared through of(String), indexed by the position of its kind.
+    private static final BloodType[] INSTANCES = new BloodType[Kind.values().length];
+
+    static {
+        for (Kind kind : Kind.values()) {
+            INSTANCES[kind.ordinal()] = new BloodType(kind.getLabel());
+        }
+    }
 
     public final String value;
+    private final Kind kind;
 
     /**
      * Constructs a {@code BloodType}.
@@ -28,17 +72,38 @@ public class BloodType {
     public BloodType(String bloodType) {
         requireNonNull(bloodType);
         checkArgument(isValidBloodType(bloodType), MESSAGE_CONSTRAINTS);
-        this.value = bloodType.toUpperCase();
+        this.kind = Kind.fromLabel(bloodType).get();
+        this.value = kind.getLabel();
+    }
+
+    /**
+     * Returns the shared {@code BloodType} written as {@code bloodType}, ignoring case.
+     *
+     * @param bloodType A valid blood type.
+     */
+    public static BloodType of(String bloodType) {
+        requireNonNull(bloodType);
+        checkArgument(isValidBloodType(bloodType), MESSAGE_CONSTRAINTS);
+        return INSTANCES[Kind.fromLabel(bloodType).get().ordinal()];
     }
 
     /**
      * Returns true if a given string is a valid blood type
      */
     public static boolean isValidBloodType(String test) {
-        test = test.toUpperCase();
-        return test.matches(VALIDATION_REGEX);
+        return Kind.fromLabel(test).isPresent();
+    }
+
+    public Kind getKind() {
+        return kind;
     }
 
+    /**
+     * Returns the position of this blood type in {@link Kind}.
+     */
+    public int ordinal() {
+        return kind.ordinal();
+    }
 
     @Override
     public String toString() {
@@ -57,7 +122,7 @@ public class BloodType {
         }
 
         BloodType otherBloodType = (BloodType) other;
-        return value.equals(otherBloodType.value);
+        return kind == otherBloodType.kind;
     }
 
     @Override
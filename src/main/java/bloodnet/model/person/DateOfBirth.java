@@ -7,6 +7,8 @@ import static java.util.Objects.requireNonNull;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a Person's dateOfBirth (DD-MM-YYYY) in BloodNet
@@ -20,6 +22,9 @@ public class DateOfBirth {
     public static final DateTimeFormatter DATE_FORMATTER =
             DateTimeFormatter.ofPattern("dd-MM-uuuu").withResolverStyle(STRICT);
 
+    // Every date is shared through of(String) once it is first asked for.
+    private static final Map<LocalDate, DateOfBirth> INSTANCES = new ConcurrentHashMap<>();
+
     public final LocalDate value;
 
     /**
@@ -36,6 +41,24 @@ public class DateOfBirth {
         value = LocalDate.parse(dateOfBirth, DATE_FORMATTER);
     }
 
+    private DateOfBirth(LocalDate value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the shared {@code DateOfBirth} written as {@code dateOfBirth}.
+     *
+     * @param dateOfBirth A valid date of birth.
+     */
+    public static DateOfBirth of(String dateOfBirth) {
+        requireNonNull(dateOfBirth);
+        if (!isValidDateOfBirth(dateOfBirth)) {
+            throw new IllegalArgumentException(String.format(MESSAGE_CONSTRAINTS,
+                    LocalDate.now().minusYears(130).format(DATE_FORMATTER)));
+        }
+        return INSTANCES.computeIfAbsent(LocalDate.parse(dateOfBirth, DATE_FORMATTER), DateOfBirth::new);
+    }
+
     /**
      * Returns if a given string is a valid dateOfBirth.
      */
@@ -74,7 +97,7 @@ public class DateOfBirth {
         }
 
         DateOfBirth otherDateOfBirth = (DateOfBirth) other;
-        return this.getValue().equals(otherDateOfBirth.getValue());
+        return value.equals(otherDateOfBirth.value);
     }
 
     @Override
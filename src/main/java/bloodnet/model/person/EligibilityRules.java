@@ -0,0 +1,71 @@
+package bloodnet.model.person;
+
+import java.time.LocalDate;
+
+/**
+ * Decides whether a person is eligible to donate blood on a date.
+ *
+ * Dates are given as epoch days and the age limits of a person are read from the epoch days cached in
+ * {@link Person}, so that a check does not create any objects. The rules are the same as those in
+ * {@code DonationRecord#validate(ReadOnlyBloodNet)}, which should be used when the reasons for a donation
+ * being invalid need to be shown to the user.
+ */
+public final class EligibilityRules {
+
+    public static final int MINIMUM_AGE = 16;
+    public static final int FIRST_TIME_DONOR_AGE_LIMIT = 61;
+    public static final int NON_RECENT_DONOR_AGE_LIMIT = 66;
+    public static final int MINIMUM_DAYS_BETWEEN_DONATIONS = 84;
+    public static final int RECENT_DONOR_YEARS = 3;
+
+    /** Stands in for the epoch day of a donation that does not exist. */
+    public static final long NO_DONATION = Long.MIN_VALUE;
+
+    private EligibilityRules() {
+    } // prevents instantiation
+
+    /**
+     * Returns true if {@code person} is eligible to donate on {@code epochDay}.
+     *
+     * @param lapseCutoffEpochDay The value of {@link #getLapseCutoffEpochDay(LocalDate)} for {@code epochDay}.
+     * @param predecessorEpochDay The latest donation of the person on or before {@code epochDay},
+     *                            or {@link #NO_DONATION}.
+     * @param successorEpochDay The earliest donation of the person on or after {@code epochDay},
+     *                          or {@link #NO_DONATION}.
+     */
+    public static boolean isEligible(Person person, long epochDay, long lapseCutoffEpochDay,
+                                     long predecessorEpochDay, long successorEpochDay) {
+        if (epochDay < person.getMinimumAgeEpochDay()) {
+            return false;
+        }
+        if (successorEpochDay != NO_DONATION && successorEpochDay - epochDay < MINIMUM_DAYS_BETWEEN_DONATIONS) {
+            return false;
+        }
+        if (predecessorEpochDay == NO_DONATION) {
+            return epochDay < person.getFirstTimeDonorAgeLimitEpochDay();
+        }
+        return epochDay - predecessorEpochDay >= MINIMUM_DAYS_BETWEEN_DONATIONS
+                && (predecessorEpochDay > lapseCutoffEpochDay
+                        || epochDay < person.getNonRecentDonorAgeLimitEpochDay());
+    }
+
+    /**
+     * Returns the epoch day of the latest donation that is at least 3 years before {@code date}.
+     * A donor whose latest donation is on or before this day has not donated in the last 3 years.
+     */
+    public static long getLapseCutoffEpochDay(LocalDate date) {
+        LocalDate cutoff = date.minusYears(RECENT_DONOR_YEARS);
+        // A donation on 29 February is 3 years old on 28 February, so the cutoff can be a day later.
+        LocalDate nextDay = cutoff.plusDays(1);
+        return nextDay.plusYears(RECENT_DONOR_YEARS).isAfter(date) ? cutoff.toEpochDay() : nextDay.toEpochDay();
+    }
+
+    /**
+     * Returns the first date on which a person born on {@code dateOfBirth} is at least {@code MINIMUM_AGE} years old.
+     * A person born on 29 February only turns a year older on 1 March in non-leap years.
+     */
+    static LocalDate getMinimumAgeDate(LocalDate dateOfBirth) {
+        LocalDate birthday = dateOfBirth.plusYears(MINIMUM_AGE);
+        return birthday.getDayOfMonth() == dateOfBirth.getDayOfMonth() ? birthday : birthday.plusDays(1);
+    }
+}
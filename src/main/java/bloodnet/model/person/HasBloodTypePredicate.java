@@ -1,6 +1,9 @@
 package bloodnet.model.person;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import bloodnet.commons.util.ToStringBuilder;
@@ -10,14 +13,33 @@ import bloodnet.commons.util.ToStringBuilder;
  */
 public class HasBloodTypePredicate implements Predicate<Person> {
     private final List<String> bloodTypes;
+    private final Set<BloodType.Kind> bloodTypeKinds = EnumSet.noneOf(BloodType.Kind.class);
+    private final int bloodTypeMask;
 
     /**
      * Constructs a {@code HasBloodTypePredicate}.
+     * Entries of {@code bloodTypes} that are not valid blood types never match.
      *
      * @param bloodTypes A list of blood types to be matched provided by the user.
      */
     public HasBloodTypePredicate(List<String> bloodTypes) {
         this.bloodTypes = bloodTypes;
+        int mask = 0;
+        for (String bloodType : bloodTypes) {
+            BloodType.Kind kind = BloodType.Kind.fromLabel(bloodType).orElse(null);
+            if (kind != null) {
+                bloodTypeKinds.add(kind);
+                mask |= 1 << kind.ordinal();
+            }
+        }
+        this.bloodTypeMask = mask;
+    }
+
+    /**
+     * Returns the blood types matched by this predicate.
+     */
+    public Set<BloodType.Kind> getBloodTypeKinds() {
+        return Collections.unmodifiableSet(bloodTypeKinds);
     }
 
     /**
@@ -27,9 +49,7 @@ public class HasBloodTypePredicate implements Predicate<Person> {
      * @param person Person you are checking the {@code bloodType} for.
      */
     public boolean test(Person person) {
-        boolean bloodTypePredicate = bloodTypes.stream()
-                .anyMatch(bloodType -> bloodType.equalsIgnoreCase(person.getBloodType().value));
-        return bloodTypePredicate;
+        return (bloodTypeMask & (1 << person.getBloodType().ordinal())) != 0;
     }
 
     @Override
@@ -1,13 +1,10 @@
 package bloodnet.model.person;
 
-import java.util.ArrayList;
 import java.util.function.Predicate;
 
 import bloodnet.commons.util.ToStringBuilder;
 import bloodnet.model.Model;
-import bloodnet.model.donationrecord.BloodVolume;
 import bloodnet.model.donationrecord.DonationDate;
-import bloodnet.model.donationrecord.DonationRecord;
 
 
 /**
@@ -32,17 +29,13 @@ public class IsEligibleToDonatePredicate implements Predicate<Person> {
      * Returns true if the person's date of birth and days since last donation fits the criteria.
      * {@code dateOfBirth} is provided by the user.
      *
+     * Only decides eligibility, without building the validation messages of
+     * {@code DonationRecord#validate(ReadOnlyBloodNet)}.
+     *
      * @param person Person you are checking the {@code dateOfBirth} and days since last donation for.
      */
     public boolean test(Person person) {
-        // Using a dummy blood volume, as we want to reuse DonationRecord's .validate() method.
-        DonationRecord donationRecord = new DonationRecord(null,
-                                                            person.getId(),
-                                                            donationDate,
-                                                            new BloodVolume("1"));
-        ArrayList<String> validationErrorStrings = donationRecord.validate(model.getBloodNet().getPersonList(),
-                                                                           model.getBloodNet().getDonationRecordList());
-        return validationErrorStrings.isEmpty();
+        return model.getBloodNet().isEligibleToDonate(person, donationDate.getValue());
     }
 
     @Override
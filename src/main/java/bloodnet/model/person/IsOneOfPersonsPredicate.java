@@ -0,0 +1,55 @@
+package bloodnet.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import bloodnet.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} is one of the persons given, such as the result of a search through an index.
+ * Persons are matched by id, so a person stays matched after being edited.
+ */
+public class IsOneOfPersonsPredicate implements Predicate<Person> {
+    private final Set<UUID> ids;
+
+    /**
+     * Constructs an {@code IsOneOfPersonsPredicate} that matches {@code persons}.
+     */
+    public IsOneOfPersonsPredicate(Collection<Person> persons) {
+        requireNonNull(persons);
+        ids = new HashSet<>();
+        for (Person person : persons) {
+            ids.add(person.getId());
+        }
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return ids.contains(person.getId());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IsOneOfPersonsPredicate)) {
+            return false;
+        }
+
+        IsOneOfPersonsPredicate otherIsOneOfPersonsPredicate = (IsOneOfPersonsPredicate) other;
+        return ids.equals(otherIsOneOfPersonsPredicate.ids);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("ids", ids).toString();
+    }
+}
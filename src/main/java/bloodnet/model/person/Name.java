@@ -3,6 +3,12 @@ package bloodnet.model.person;
 import static bloodnet.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import bloodnet.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the bloodnet.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -38,6 +44,20 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the distinct Soundex codes of the words in {@code text}.
+     */
+    public static Set<String> toPhoneticCodes(String text) {
+        requireNonNull(text);
+        Set<String> codes = new HashSet<>();
+        for (String word : text.split("\\s+")) {
+            String code = StringUtil.toSoundex(word);
+            if (!code.isEmpty()) {
+                codes.add(code);
+            }
+        }
+        return Collections.unmodifiableSet(codes);
+    }
 
     @Override
     public String toString() {
@@ -2,6 +2,7 @@ package bloodnet.model.person;
 
 import static bloodnet.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -22,12 +23,18 @@ public class Person {
     private final BloodType bloodType;
     private final DateOfBirth dateOfBirth;
 
+    // Cached for EligibilityRules, which compares epoch days instead of dates
+    private final long minimumAgeEpochDay;
+    private final long firstTimeDonorAgeLimitEpochDay;
+    private final long nonRecentDonorAgeLimitEpochDay;
+    private final int hashCode;
+
     /**
      * Every field other than ID must be present and not null.
      */
     public Person(UUID id, Name name, Phone phone, Email email, BloodType bloodType,
                   DateOfBirth dateOfBirth) {
-        requireAllNonNull(name, phone, email, bloodType);
+        requireAllNonNull(name, phone, email, bloodType, dateOfBirth);
 
         this.id = id;
         this.name = name;
@@ -35,6 +42,15 @@ public class Person {
         this.email = email;
         this.bloodType = bloodType;
         this.dateOfBirth = dateOfBirth;
+
+        LocalDate dateOfBirthValue = dateOfBirth.getValue();
+        this.minimumAgeEpochDay = EligibilityRules.getMinimumAgeDate(dateOfBirthValue).toEpochDay();
+        this.firstTimeDonorAgeLimitEpochDay =
+                dateOfBirthValue.plusYears(EligibilityRules.FIRST_TIME_DONOR_AGE_LIMIT).toEpochDay();
+        this.nonRecentDonorAgeLimitEpochDay =
+                dateOfBirthValue.plusYears(EligibilityRules.NON_RECENT_DONOR_AGE_LIMIT).toEpochDay();
+        // The id is not part of equality, so the hash code never changes
+        this.hashCode = Objects.hash(name, phone, email, bloodType, dateOfBirth);
     }
 
     public void setId(UUID id) {
@@ -65,6 +81,28 @@ public class Person {
         return dateOfBirth;
     }
 
+    /**
+     * Returns the epoch day from which this person is old enough to donate blood.
+     */
+    public long getMinimumAgeEpochDay() {
+        return minimumAgeEpochDay;
+    }
+
+    /**
+     * Returns the epoch day from which this person is too old to donate blood for the first time.
+     */
+    public long getFirstTimeDonorAgeLimitEpochDay() {
+        return firstTimeDonorAgeLimitEpochDay;
+    }
+
+    /**
+     * Returns the epoch day from which this person is too old to donate blood
+     * without having donated in the last 3 years.
+     */
+    public long getNonRecentDonorAgeLimitEpochDay() {
+        return nonRecentDonorAgeLimitEpochDay;
+    }
+
 
     /**
      * Returns true if both persons have the same name and phone number.
@@ -104,8 +142,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, bloodType, dateOfBirth);
+        return hashCode;
     }
 
     @Override
@@ -15,6 +15,7 @@ public class Phone {
             "Phone numbers should only contain numbers, be 8 digits long, and start with either 3, 6, 8, or 9.";
     public static final String VALIDATION_REGEX = "^[3689]\\d{7}$";
     public final String value;
+    private final int number;
 
     /**
      * Constructs a {@code Phone}.
@@ -25,6 +26,7 @@ public class Phone {
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
         value = phone;
+        number = Integer.parseInt(phone);
     }
 
     /**
@@ -34,6 +36,14 @@ public class Phone {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns this phone number as an {@code int}. Valid phone numbers are 8 digits long, so they always fit,
+     * and they never start with 0, so the {@code int} is never 0.
+     */
+    public int toInt() {
+        return number;
+    }
+
     @Override
     public String toString() {
         return value;
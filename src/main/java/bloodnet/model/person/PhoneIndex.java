@@ -0,0 +1,151 @@
+package bloodnet.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A hash index from phone numbers to the persons with them, keyed by the phone number as a primitive {@code int}.
+ *
+ * The phone numbers are kept in an open-addressing table with linear probing, so a lookup neither boxes the
+ * phone number nor follows a chain of entries. Valid phone numbers are never 0, which marks an empty slot.
+ * Persons sharing a phone number are kept together in a small array in the slot of that phone number.
+ */
+public class PhoneIndex {
+
+    private static final int EMPTY = 0;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] phoneNumbers = new int[INITIAL_CAPACITY];
+    private Person[][] personsByPhoneNumber = new Person[INITIAL_CAPACITY][];
+    private int size;
+
+    /**
+     * Adds {@code person} under their phone number.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int phoneNumber = person.getPhone().toInt();
+        int slot = findSlot(phoneNumber);
+        if (phoneNumbers[slot] != EMPTY) {
+            Person[] persons = personsByPhoneNumber[slot];
+            Person[] grownPersons = Arrays.copyOf(persons, persons.length + 1);
+            grownPersons[persons.length] = person;
+            personsByPhoneNumber[slot] = grownPersons;
+            return;
+        }
+
+        phoneNumbers[slot] = phoneNumber;
+        personsByPhoneNumber[slot] = new Person[] {person};
+        size++;
+        // Keeps the table at most half full, so that runs of occupied slots stay short.
+        if (size * 2 > phoneNumbers.length) {
+            resize(phoneNumbers.length * 2);
+        }
+    }
+
+    /**
+     * Removes {@code person} from their phone number. Does nothing if {@code person} is not in the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        int slot = findSlot(person.getPhone().toInt());
+        if (phoneNumbers[slot] == EMPTY) {
+            return;
+        }
+
+        Person[] persons = personsByPhoneNumber[slot];
+        int position = Arrays.asList(persons).indexOf(person);
+        if (position == -1) {
+            return;
+        }
+        if (persons.length > 1) {
+            Person[] shrunkPersons = new Person[persons.length - 1];
+            System.arraycopy(persons, 0, shrunkPersons, 0, position);
+            System.arraycopy(persons, position + 1, shrunkPersons, position, persons.length - position - 1);
+            personsByPhoneNumber[slot] = shrunkPersons;
+            return;
+        }
+        clearSlot(slot);
+        size--;
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        phoneNumbers = new int[INITIAL_CAPACITY];
+        personsByPhoneNumber = new Person[INITIAL_CAPACITY][];
+        size = 0;
+    }
+
+    /**
+     * Returns the persons with the phone number {@code phoneNumber}, in the order they were added.
+     */
+    public List<Person> get(int phoneNumber) {
+        if (phoneNumber == EMPTY) {
+            return Collections.emptyList();
+        }
+        int slot = findSlot(phoneNumber);
+        if (phoneNumbers[slot] == EMPTY) {
+            return Collections.emptyList();
+        }
+        // The arrays are replaced rather than changed, so the view never changes after it is returned.
+        return Collections.unmodifiableList(Arrays.asList(personsByPhoneNumber[slot]));
+    }
+
+    /**
+     * Returns the slot holding {@code phoneNumber}, or the empty slot where it would be added.
+     */
+    private int findSlot(int phoneNumber) {
+        int mask = phoneNumbers.length - 1;
+        int slot = hash(phoneNumber) & mask;
+        while (phoneNumbers[slot] != EMPTY && phoneNumbers[slot] != phoneNumber) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Empties {@code slot}, moving back later entries of the same run that would otherwise no longer be found.
+     */
+    private void clearSlot(int slot) {
+        int mask = phoneNumbers.length - 1;
+        int hole = slot;
+        for (int next = (slot + 1) & mask; phoneNumbers[next] != EMPTY; next = (next + 1) & mask) {
+            int home = hash(phoneNumbers[next]) & mask;
+            // The entry may only move back if the hole lies between its home slot and its current slot.
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                phoneNumbers[hole] = phoneNumbers[next];
+                personsByPhoneNumber[hole] = personsByPhoneNumber[next];
+                hole = next;
+            }
+        }
+        phoneNumbers[hole] = EMPTY;
+        personsByPhoneNumber[hole] = null;
+    }
+
+    private void resize(int capacity) {
+        int[] oldPhoneNumbers = phoneNumbers;
+        Person[][] oldPersonsByPhoneNumber = personsByPhoneNumber;
+        phoneNumbers = new int[capacity];
+        personsByPhoneNumber = new Person[capacity][];
+        for (int i = 0; i < oldPhoneNumbers.length; i++) {
+            if (oldPhoneNumbers[i] != EMPTY) {
+                int slot = findSlot(oldPhoneNumbers[i]);
+                phoneNumbers[slot] = oldPhoneNumbers[i];
+                personsByPhoneNumber[slot] = oldPersonsByPhoneNumber[i];
+            }
+        }
+    }
+
+    /**
+     * Spreads the bits of {@code phoneNumber}, as consecutive phone numbers would otherwise fill consecutive slots.
+     */
+    private static int hash(int phoneNumber) {
+        int hash = phoneNumber * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
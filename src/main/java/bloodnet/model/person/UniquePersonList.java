@@ -3,8 +3,15 @@ package bloodnet.model.person;
 import static bloodnet.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
 
 import bloodnet.model.person.exceptions.DuplicatePersonException;
 import bloodnet.model.person.exceptions.PersonNotFoundException;
@@ -18,6 +25,11 @@ import javafx.collections.ObservableList;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object)
  * to ensure that the person with exactly the same fields will be removed.
  * <p>
+ * Every person in the list is also indexed by phone number and by email, so that duplicate checks and
+ * contact lookups do not need to scan the whole list. Persons that have been assigned an ID are
+ * additionally indexed by that ID. The position of every person in the list is kept too, so that edits and
+ * removals do not need to search the list.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +39,48 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final PhoneIndex phoneIndex = new PhoneIndex();
+    private final Map<Email, List<Person>> emailIndex = new HashMap<>();
+    private final Map<UUID, Person> idIndex = new HashMap<>();
+    private final Map<Person, Integer> positionIndex = new HashMap<>();
+    private int firstStalePosition;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        // Persons with the same identity have the same phone number, so only those persons are compared.
+        for (Person person : phoneIndex.get(toCheck.getPhone().toInt())) {
+            if (person.isSamePerson(toCheck)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the person in the list with the given {@code id}, if any.
+     */
+    public Optional<Person> getById(UUID id) {
+        requireNonNull(id);
+        return Optional.ofNullable(idIndex.get(id));
+    }
+
+    /**
+     * Returns the persons in the list with the given {@code phone}.
+     */
+    public List<Person> getByPhone(Phone phone) {
+        requireNonNull(phone);
+        return phoneIndex.get(phone.toInt());
+    }
+
+    /**
+     * Returns the persons in the list with the given {@code email}.
+     */
+    public List<Person> getByEmail(Email email) {
+        requireNonNull(email);
+        return List.copyOf(emailIndex.getOrDefault(email, List.of()));
     }
 
     /**
@@ -46,6 +93,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        positionIndex.put(toAdd, internalList.size() - 1);
+        index(toAdd);
     }
 
     /**
@@ -56,7 +105,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +114,11 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        positionIndex.remove(replaced);
+        positionIndex.put(editedPerson, index);
+        unindex(replaced);
+        index(editedPerson);
     }
 
     /**
@@ -74,27 +127,38 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.remove(index);
+        positionIndex.remove(removed);
+        // Every later element has moved back by one, so their positions are refreshed when next needed.
+        firstStalePosition = Math.min(firstStalePosition, index);
+        unindex(removed);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindexAll();
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException with the groups of duplicate persons in {@code persons}, if there are any.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<List<Person>> duplicateGroups = findDuplicateGroups(persons);
+        if (!duplicateGroups.isEmpty()) {
+            throw new DuplicatePersonException(duplicateGroups);
         }
 
         internalList.setAll(persons);
+        reindexAll();
     }
 
     /**
@@ -135,16 +199,123 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Adds {@code person} to every index kept alongside the backing list.
+     */
+    private void index(Person person) {
+        phoneIndex.add(person);
+        emailIndex.computeIfAbsent(person.getEmail(), unused -> new ArrayList<>()).add(person);
+        if (person.getId() != null) {
+            idIndex.put(person.getId(), person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from every index kept alongside the backing list.
+     */
+    private void unindex(Person person) {
+        phoneIndex.remove(person);
+        List<Person> personsWithEmail = emailIndex.get(person.getEmail());
+        if (personsWithEmail != null) {
+            personsWithEmail.remove(person);
+            if (personsWithEmail.isEmpty()) {
+                emailIndex.remove(person.getEmail());
+            }
+        }
+        if (person.getId() != null) {
+            idIndex.remove(person.getId(), person);
+        }
+    }
+
+    /**
+     * Returns the position of {@code person} in the backing list, or -1 if it is not in the list.
+     */
+    private int indexOf(Person person) {
+        Integer position = positionIndex.get(person);
+        if (position == null) {
+            return -1;
+        }
+        if (position >= firstStalePosition) {
+            refreshStalePositions();
+            position = positionIndex.get(person);
+        }
+        return position;
+    }
+
+    /**
+     * Recomputes the positions of the elements from the first position that may be out of date.
+     */
+    private void refreshStalePositions() {
+        for (int i = firstStalePosition; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i), i);
+        }
+        firstStalePosition = internalList.size();
+    }
+
+    /**
+     * Rebuilds every index from the contents of the backing list.
+     */
+    private void reindexAll() {
+        positionIndex.clear();
+        firstStalePosition = 0;
+        refreshStalePositions();
+        phoneIndex.clear();
+        emailIndex.clear();
+        idIndex.clear();
+        for (Person person : internalList) {
+            index(person);
+        }
+    }
+
+    /**
+     * Returns every group of persons in {@code persons} that share the same identity, in order of first occurrence.
+     * Each returned group contains at least two persons. An empty list is returned if all persons are unique.
+     * Runs in a single pass over {@code persons}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    public static List<List<Person>> findDuplicateGroups(List<Person> persons) {
+        requireNonNull(persons);
+        Map<IdentityKey, Person> firstSeen = new HashMap<>();
+        Map<IdentityKey, List<Person>> duplicateGroups = new LinkedHashMap<>();
+
+        for (Person person : persons) {
+            IdentityKey key = new IdentityKey(person);
+            Person firstPerson = firstSeen.putIfAbsent(key, person);
+            if (firstPerson != null) {
+                duplicateGroups.computeIfAbsent(key, unused -> new ArrayList<>(List.of(firstPerson))).add(person);
             }
         }
-        return true;
+        return new ArrayList<>(duplicateGroups.values());
+    }
+
+    /**
+     * Hash key over the identity fields compared by {@code Person#isSamePerson(Person)}.
+     */
+    private static final class IdentityKey {
+        private final Name name;
+        private final Phone phone;
+
+        IdentityKey(Person person) {
+            this.name = person.getName();
+            this.phone = person.getPhone();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+
+            IdentityKey otherKey = (IdentityKey) other;
+            return name.equals(otherKey.name) && phone.equals(otherKey.phone);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, phone);
+        }
     }
 }
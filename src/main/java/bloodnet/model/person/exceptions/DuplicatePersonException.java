@@ -1,11 +1,33 @@
 package bloodnet.model.person.exceptions;
 
+import java.util.List;
+
+import bloodnet.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<List<Person>> duplicateGroups;
+
     public DuplicatePersonException() {
+        this(List.of());
+    }
+
+    /**
+     * Creates a {@code DuplicatePersonException} for the given groups of persons that share the same identity.
+     */
+    public DuplicatePersonException(List<List<Person>> duplicateGroups) {
         super("Operation would result in duplicate persons");
+        this.duplicateGroups = duplicateGroups;
+    }
+
+    /**
+     * Returns the groups of persons that share the same identity, if they were found, or an empty list otherwise.
+     */
+    public List<List<Person>> getDuplicateGroups() {
+        return duplicateGroups;
     }
 }
@@ -0,0 +1,297 @@
+package bloodnet.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import bloodnet.commons.core.LogsCenter;
+import bloodnet.commons.exceptions.DataLoadingException;
+import bloodnet.commons.exceptions.IllegalValueException;
+import bloodnet.commons.util.FileUtil;
+import bloodnet.commons.util.JsonUtil;
+import bloodnet.model.BloodNetChange;
+import bloodnet.model.ReadOnlyBloodNet;
+import bloodnet.model.donationrecord.DonationRecord;
+import bloodnet.model.person.Person;
+
+/**
+ * A class to access BloodNet data stored as a json snapshot file together with a journal of the changes made
+ * since the snapshot was taken.
+ *
+ * Saving appends one line per added, edited or removed person or donation record to the journal, which sits
+ * next to the snapshot, instead of rewriting the whole snapshot. Reading replays the journal over the snapshot.
+ * Once the journal holds more than a given number of changes, the next save writes a new snapshot and starts
+ * an empty journal.
+ *
+ * Each snapshot is one generation on from the one it replaces, and each journal entry carries the generation of
+ * the snapshot it was made after. Only entries of the snapshot's own generation are replayed, so a journal left
+ * behind by a save that stopped between writing a new snapshot and deleting the journal is not replayed over it.
+ */
+public class JournaledBloodNetStorage implements BloodNetStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledBloodNetStorage.class);
+
+    private final JsonBloodNetStorage snapshotStorage;
+    private final JsonBloodNetWriter snapshotWriter;
+    private final Path journalFilePath;
+    private final int checkpointInterval;
+
+    // The version of the bloodnet as of the last read or save, or null if there has been neither.
+    // A save journals the changes the bloodnet has recorded since this version.
+    private Long persistedVersion;
+    // The generation of the snapshot as of the last read or save.
+    private long snapshotGeneration;
+    private int journalEntryCount;
+
+    public JournaledBloodNetStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code JournaledBloodNetStorage} for the snapshot at {@code filePath}, which writes a new snapshot
+     * once its journal would hold more than {@code checkpointInterval} changes.
+     */
+    public JournaledBloodNetStorage(Path filePath, int checkpointInterval) {
+        this(filePath, checkpointInterval, false);
+    }
+
+    /**
+     * Creates a {@code JournaledBloodNetStorage} for the snapshot at {@code filePath}, which writes a new snapshot
+     * once its journal would hold more than {@code checkpointInterval} changes, and indents its snapshots if
+     * {@code prettyPrinted} is true.
+     */
+    public JournaledBloodNetStorage(Path filePath, int checkpointInterval, boolean prettyPrinted) {
+        requireNonNull(filePath);
+        assert checkpointInterval >= 0;
+        this.snapshotStorage = new JsonBloodNetStorage(filePath, prettyPrinted);
+        this.snapshotWriter = new JsonBloodNetWriter(prettyPrinted);
+        this.journalFilePath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    @Override
+    public Path getBloodNetFilePath() {
+        return snapshotStorage.getBloodNetFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyBloodNet> readBloodNet() throws DataLoadingException {
+        return readBloodNet(getBloodNetFilePath());
+    }
+
+    /**
+     * Similar to {@link #readBloodNet()}.
+     * Only the journal of the snapshot at {@link #getBloodNetFilePath()} is replayed, and only its entries of the
+     * snapshot's generation.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyBloodNet> readBloodNet(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getBloodNetFilePath())) {
+            return snapshotStorage.readBloodNet(filePath);
+        }
+
+        List<JsonJournalEntry> journalEntries = readJournal();
+        boolean hasSnapshot = FileUtil.isFileExists(filePath);
+        if (!hasSnapshot && journalEntries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonBloodNetReader reader = new JsonBloodNetReader();
+            if (hasSnapshot) {
+                reader.read(filePath);
+            }
+
+            Map<UUID, Person> persons = new LinkedHashMap<>();
+            Map<UUID, DonationRecord> donationRecords = new LinkedHashMap<>();
+            reader.getPersons().forEach(person -> persons.put(person.getId(), person));
+            reader.getDonationRecords().forEach(record -> donationRecords.put(record.getId(), record));
+            int replayedCount = 0;
+            for (JsonJournalEntry journalEntry : journalEntries) {
+                if (journalEntry.getGeneration() == reader.getGeneration()) {
+                    journalEntry.applyTo(persons, donationRecords);
+                    replayedCount++;
+                }
+            }
+            if (replayedCount < journalEntries.size()) {
+                logger.warning("Skipped " + (journalEntries.size() - replayedCount)
+                        + " journaled changes made before the snapshot " + filePath + " was written");
+            }
+
+            ReadOnlyBloodNet bloodNet = JsonSerializableBloodNet.toModelType(new ArrayList<>(persons.values()),
+                    new ArrayList<>(donationRecords.values()));
+            persistedVersion = bloodNet.getVersion();
+            snapshotGeneration = reader.getGeneration();
+            // Skipped entries stay in the journal until the next snapshot, so they count towards its size
+            journalEntryCount = journalEntries.size();
+            logger.info("Replayed " + replayedCount + " journaled changes over " + filePath);
+            return Optional.of(bloodNet);
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns the entries in the journal, in the order they were written.
+     * An unreadable last entry is taken to be a write that was cut short, and is left out.
+     */
+    private List<JsonJournalEntry> readJournal() throws DataLoadingException {
+        List<JsonJournalEntry> journalEntries = new ArrayList<>();
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return journalEntries;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                journalEntries.add(JsonUtil.fromJsonString(line, JsonJournalEntry.class));
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    logger.warning("Error reading entry " + (i + 1) + " of journal file " + journalFilePath + ": " + e);
+                    throw new DataLoadingException(e);
+                }
+                logger.warning("Ignoring incomplete last entry of journal file " + journalFilePath);
+            }
+        }
+        return journalEntries;
+    }
+
+    @Override
+    public void saveBloodNet(ReadOnlyBloodNet bloodNet) throws IOException {
+        saveBloodNet(bloodNet, getBloodNetFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveBloodNet(ReadOnlyBloodNet)}.
+     * Only saves to {@link #getBloodNetFilePath()} are journaled; other files are written as full snapshots.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveBloodNet(ReadOnlyBloodNet bloodNet, Path filePath) throws IOException {
+        requireNonNull(bloodNet);
+        requireNonNull(filePath);
+        if (!filePath.equals(getBloodNetFilePath())) {
+            snapshotStorage.saveBloodNet(bloodNet, filePath);
+            return;
+        }
+
+        Optional<List<BloodNetChange>> changes = persistedVersion == null
+                ? Optional.empty()
+                : bloodNet.getChangesSince(persistedVersion);
+        if (changes.isEmpty()) {
+            checkpoint(bloodNet);
+            return;
+        }
+
+        List<JsonJournalEntry> journalEntries = toJournalEntries(bloodNet, changes.get(), snapshotGeneration);
+        if (journalEntryCount + journalEntries.size() > checkpointInterval) {
+            checkpoint(bloodNet);
+            return;
+        }
+
+        if (!journalEntries.isEmpty()) {
+            StringBuilder lines = new StringBuilder();
+            for (JsonJournalEntry journalEntry : journalEntries) {
+                lines.append(JsonUtil.toJsonLine(journalEntry)).append(System.lineSeparator());
+            }
+            FileUtil.createParentDirsOfFile(journalFilePath);
+            FileUtil.appendToFile(journalFilePath, lines.toString());
+        }
+
+        persistedVersion = bloodNet.getVersion();
+        journalEntryCount += journalEntries.size();
+    }
+
+    /**
+     * Returns the entries to be journaled for {@code changes} to {@code bloodNet} to be read back over the snapshot
+     * of the given {@code generation}.
+     * Each changed person or donation record is journaled once, as it is now in {@code bloodNet}.
+     */
+    private static List<JsonJournalEntry> toJournalEntries(ReadOnlyBloodNet bloodNet, List<BloodNetChange> changes,
+            long generation) {
+        Set<UUID> personIds = new LinkedHashSet<>();
+        Set<UUID> donationRecordIds = new LinkedHashSet<>();
+        for (BloodNetChange change : changes) {
+            switch (change.getTarget()) {
+            case PERSON:
+                personIds.add(change.getId());
+                break;
+            case DONATION_RECORD:
+                donationRecordIds.add(change.getId());
+                break;
+            default:
+                throw new AssertionError(change.getTarget());
+            }
+        }
+
+        List<JsonJournalEntry> journalEntries = new ArrayList<>();
+        for (UUID id : personIds) {
+            journalEntries.add(bloodNet.getPersonById(id)
+                    .map(person -> JsonJournalEntry.putPerson(generation, person))
+                    .orElseGet(() -> JsonJournalEntry.removePerson(generation, id)));
+        }
+        for (UUID id : donationRecordIds) {
+            journalEntries.add(bloodNet.getDonationRecordById(id)
+                    .map(record -> JsonJournalEntry.putDonationRecord(generation, record))
+                    .orElseGet(() -> JsonJournalEntry.removeDonationRecord(generation, id)));
+        }
+        return journalEntries;
+    }
+
+    /**
+     * Writes all of {@code bloodNet} to a new snapshot, one generation on from the last one read or saved, and
+     * empties the journal.
+     * The journal is only deleted once the new snapshot has replaced the old one. Until then, its entries are of
+     * an older generation than the new snapshot, so they are not replayed over it.
+     */
+    private void checkpoint(ReadOnlyBloodNet bloodNet) throws IOException {
+        long generation = snapshotGeneration + 1;
+        FileUtil.createParentDirsOfFile(getBloodNetFilePath());
+        snapshotWriter.write(bloodNet, getBloodNetFilePath(), generation);
+        snapshotGeneration = generation;
+        Files.deleteIfExists(journalFilePath);
+        persistedVersion = bloodNet.getVersion();
+        journalEntryCount = 0;
+        logger.fine("Wrote a new snapshot to " + getBloodNetFilePath());
+    }
+
+}
@@ -70,7 +70,7 @@ class JsonAdaptedDonationRecord {
         if (!DonationDate.isValidDonationDate(donationDate)) {
             throw new IllegalValueException(DonationDate.MESSAGE_CONSTRAINTS);
         }
-        final DonationDate modelDonationDate = new DonationDate(donationDate);
+        final DonationDate modelDonationDate = DonationDate.of(donationDate);
 
         if (bloodVolume == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -79,7 +79,7 @@ class JsonAdaptedDonationRecord {
         if (!BloodVolume.isValidBloodVolume(bloodVolume)) {
             throw new IllegalValueException(BloodVolume.MESSAGE_CONSTRAINTS);
         }
-        final BloodVolume modelBloodVolume = new BloodVolume(bloodVolume);
+        final BloodVolume modelBloodVolume = BloodVolume.of(bloodVolume);
 
 
         return new DonationRecord(modelId, modelPersonId, modelDonationDate, modelBloodVolume);
@@ -97,7 +97,7 @@ class JsonAdaptedPerson {
         if (!BloodType.isValidBloodType(bloodType)) {
             throw new IllegalValueException(BloodType.MESSAGE_CONSTRAINTS);
         }
-        final BloodType modelBloodType = new BloodType(bloodType);
+        final BloodType modelBloodType = BloodType.of(bloodType);
 
         if (dateOfBirth == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -106,7 +106,7 @@ class JsonAdaptedPerson {
         if (!DateOfBirth.isValidDateOfBirth(dateOfBirth)) {
             throw new IllegalValueException(DateOfBirth.MESSAGE_CONSTRAINTS);
         }
-        final DateOfBirth modelDateOfBirth = new DateOfBirth(dateOfBirth);
+        final DateOfBirth modelDateOfBirth = DateOfBirth.of(dateOfBirth);
 
 
         return new Person(modelId, modelName, modelPhone, modelEmail, modelBloodType, modelDateOfBirth);
@@ -0,0 +1,104 @@
+package bloodnet.storage;
+
+import static bloodnet.storage.JsonSerializableBloodNet.DONATION_RECORDS_FIELD;
+import static bloodnet.storage.JsonSerializableBloodNet.GENERATION_FIELD;
+import static bloodnet.storage.JsonSerializableBloodNet.PERSONS_FIELD;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import bloodnet.commons.exceptions.IllegalValueException;
+import bloodnet.commons.util.JsonUtil;
+import bloodnet.model.donationrecord.DonationRecord;
+import bloodnet.model.person.Person;
+
+/**
+ * Reads a data file in the format of {@link JsonSerializableBloodNet} one person or donation record at a time.
+ *
+ * Each element is converted into the model as soon as it is read, so only the model and a single element are
+ * held in memory, rather than the whole file, its text and its Jackson-friendly copy as well.
+ */
+class JsonBloodNetReader {
+
+    private final List<Person> persons = new ArrayList<>();
+    private final List<DonationRecord> donationRecords = new ArrayList<>();
+    private long generation;
+
+    /**
+     * Reads the persons, donation records and generation in the data file at {@code filePath}.
+     * Other fields are skipped.
+     *
+     * @throws IOException if the file could not be read or is not in the expected format.
+     * @throws IllegalValueException if any person or donation record violates data constraints.
+     */
+    public void read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        try (JsonParser parser = JsonUtil.createParser(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected the data file to hold a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (GENERATION_FIELD.equals(fieldName) && value != JsonToken.VALUE_NULL) {
+                    if (value != JsonToken.VALUE_NUMBER_INT) {
+                        throw new JsonParseException(parser, "Expected a whole number for " + fieldName);
+                    }
+                    generation = parser.getLongValue();
+                } else if (PERSONS_FIELD.equals(fieldName) && startsArray(parser, fieldName, value)) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        persons.add(parser.readValueAs(JsonAdaptedPerson.class).toModelType());
+                    }
+                } else if (DONATION_RECORDS_FIELD.equals(fieldName) && startsArray(parser, fieldName, value)) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        donationRecords.add(parser.readValueAs(JsonAdaptedDonationRecord.class).toModelType());
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    public List<DonationRecord> getDonationRecords() {
+        return donationRecords;
+    }
+
+    /**
+     * Returns the generation of the data file read, or 0 if it has none.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns true if {@code value} of the field {@code fieldName} starts an array, or false if it is null.
+     *
+     * @throws JsonParseException if {@code value} is neither.
+     */
+    private static boolean startsArray(JsonParser parser, String fieldName, JsonToken value)
+            throws JsonParseException {
+        if (value == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (value != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected a JSON array of " + fieldName);
+        }
+        return true;
+    }
+
+}
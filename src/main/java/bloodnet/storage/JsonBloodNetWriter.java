@@ -0,0 +1,113 @@
+package bloodnet.storage;
+
+import static bloodnet.storage.JsonSerializableBloodNet.DONATION_RECORDS_FIELD;
+import static bloodnet.storage.JsonSerializableBloodNet.GENERATION_FIELD;
+import static bloodnet.storage.JsonSerializableBloodNet.PERSONS_FIELD;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import bloodnet.commons.util.JsonUtil;
+import bloodnet.model.ReadOnlyBloodNet;
+import bloodnet.model.donationrecord.DonationRecord;
+import bloodnet.model.person.Person;
+
+/**
+ * Writes a data file in the format of {@link JsonSerializableBloodNet} one person or donation record at a time.
+ *
+ * Each element is converted and written out as soon as it is reached, so the file is never built up in memory
+ * as a whole, and the time taken grows with the size of the file rather than the copies made of it.
+ */
+class JsonBloodNetWriter {
+
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final boolean prettyPrinted;
+
+    /**
+     * Creates a {@code JsonBloodNetWriter} which indents the files it writes if {@code prettyPrinted} is true,
+     * or writes them without any whitespace otherwise.
+     */
+    public JsonBloodNetWriter(boolean prettyPrinted) {
+        this.prettyPrinted = prettyPrinted;
+    }
+
+    /**
+     * Writes the persons and donation records of {@code bloodNet} to the file at {@code filePath}.
+     * Overwrites the file if it exists, and creates it otherwise.
+     *
+     * The data is written to a temporary file next to {@code filePath} first, which then replaces the file,
+     * so a write that fails partway leaves the existing file as it was.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    public void write(ReadOnlyBloodNet bloodNet, Path filePath) throws IOException {
+        writeAtomically(bloodNet, filePath, null);
+    }
+
+    /**
+     * Similar to {@link #write(ReadOnlyBloodNet, Path)}, but also writes {@code generation} as the generation of
+     * the file, which can be read back with {@link JsonBloodNetReader#getGeneration()}.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    public void write(ReadOnlyBloodNet bloodNet, Path filePath, long generation) throws IOException {
+        writeAtomically(bloodNet, filePath, generation);
+    }
+
+    private void writeAtomically(ReadOnlyBloodNet bloodNet, Path filePath, Long generation) throws IOException {
+        requireNonNull(bloodNet);
+        requireNonNull(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            writeTo(bloodNet, tempFilePath, generation);
+            replace(tempFilePath, filePath);
+        } finally {
+            Files.deleteIfExists(tempFilePath);
+        }
+    }
+
+    private void writeTo(ReadOnlyBloodNet bloodNet, Path filePath, Long generation) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(new BufferedOutputStream(
+                Files.newOutputStream(filePath)))) {
+            if (prettyPrinted) {
+                generator.useDefaultPrettyPrinter();
+            }
+
+            generator.writeStartObject();
+            if (generation != null) {
+                generator.writeNumberField(GENERATION_FIELD, generation);
+            }
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : bloodNet.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart(DONATION_RECORDS_FIELD);
+            for (DonationRecord donationRecord : bloodNet.getDonationRecordList()) {
+                generator.writeObject(new JsonAdaptedDonationRecord(donationRecord));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in one step where the file system allows it.
+     */
+    private static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+package bloodnet.storage;
+
+import java.util.Map;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import bloodnet.commons.exceptions.IllegalValueException;
+import bloodnet.model.donationrecord.DonationRecord;
+import bloodnet.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change to the data of BloodNet, as written to its journal.
+ */
+class JsonJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String INVALID_ID_MESSAGE = "Journal entry's id is not a valid id!";
+
+    /**
+     * The kinds of changes that can be journaled.
+     */
+    enum Operation {
+        PUT_PERSON, REMOVE_PERSON, PUT_DONATION_RECORD, REMOVE_DONATION_RECORD
+    }
+
+    private final Long generation;
+    private final Operation operation;
+    private final String id;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedDonationRecord donationRecord;
+
+    /**
+     * Constructs a {@code JsonJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonJournalEntry(@JsonProperty("generation") Long generation,
+                            @JsonProperty("operation") Operation operation, @JsonProperty("id") String id,
+                            @JsonProperty("person") JsonAdaptedPerson person,
+                            @JsonProperty("donationRecord") JsonAdaptedDonationRecord donationRecord) {
+        this.generation = generation;
+        this.operation = operation;
+        this.id = id;
+        this.person = person;
+        this.donationRecord = donationRecord;
+    }
+
+    /**
+     * Returns an entry of the given snapshot {@code generation} that adds {@code person}, or replaces the person
+     * with the same ID.
+     */
+    public static JsonJournalEntry putPerson(long generation, Person person) {
+        return new JsonJournalEntry(generation, Operation.PUT_PERSON, person.getId().toString(),
+                new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns an entry of the given snapshot {@code generation} that removes the person with the given {@code id}.
+     */
+    public static JsonJournalEntry removePerson(long generation, UUID id) {
+        return new JsonJournalEntry(generation, Operation.REMOVE_PERSON, id.toString(), null, null);
+    }
+
+    /**
+     * Returns an entry of the given snapshot {@code generation} that adds {@code donationRecord}, or replaces the
+     * donation record with the same ID.
+     */
+    public static JsonJournalEntry putDonationRecord(long generation, DonationRecord donationRecord) {
+        return new JsonJournalEntry(generation, Operation.PUT_DONATION_RECORD, donationRecord.getId().toString(), null,
+                new JsonAdaptedDonationRecord(donationRecord));
+    }
+
+    /**
+     * Returns an entry of the given snapshot {@code generation} that removes the donation record with the given
+     * {@code id}.
+     */
+    public static JsonJournalEntry removeDonationRecord(long generation, UUID id) {
+        return new JsonJournalEntry(generation, Operation.REMOVE_DONATION_RECORD, id.toString(), null, null);
+    }
+
+    /**
+     * Returns the generation of the snapshot this change was made after, or 0 if this entry has none.
+     */
+    public long getGeneration() {
+        return generation == null ? 0 : generation;
+    }
+
+    /**
+     * Applies this change to {@code persons} and {@code donationRecords}, which are kept by their IDs.
+     *
+     * @throws IllegalValueException if this entry is missing any of the fields of its operation, its id is not a
+     *     valid id, or the person or donation record in it violates data constraints.
+     */
+    public void applyTo(Map<UUID, Person> persons, Map<UUID, DonationRecord> donationRecords)
+            throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+        if (id == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "id"));
+        }
+
+        final UUID modelId;
+        try {
+            modelId = UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE);
+        }
+
+        switch (operation) {
+        case PUT_PERSON:
+            if (person == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+            }
+            persons.put(modelId, person.toModelType());
+            break;
+        case REMOVE_PERSON:
+            persons.remove(modelId);
+            break;
+        case PUT_DONATION_RECORD:
+            if (donationRecord == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "donationRecord"));
+            }
+            donationRecords.put(modelId, donationRecord.toModelType());
+            break;
+        case REMOVE_DONATION_RECORD:
+            donationRecords.remove(modelId);
+            break;
+        default:
+            throw new AssertionError(operation);
+        }
+    }
+
+}
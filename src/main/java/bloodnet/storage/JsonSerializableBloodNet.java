@@ -1,18 +1,25 @@
 package bloodnet.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import bloodnet.commons.core.LogsCenter;
 import bloodnet.commons.exceptions.IllegalValueException;
 import bloodnet.model.BloodNet;
 import bloodnet.model.ReadOnlyBloodNet;
 import bloodnet.model.donationrecord.DonationRecord;
+import bloodnet.model.donationrecord.exceptions.DuplicateDonationRecordException;
 import bloodnet.model.person.Person;
+import bloodnet.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable BloodNet that is serializable to JSON format.
@@ -21,6 +28,15 @@ import bloodnet.model.person.Person;
 class JsonSerializableBloodNet {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_DONATION_RECORD =
+            "Donation records list contains duplicate donation record(s).";
+    public static final String MESSAGE_MISSING_DONOR = "Donation record refers to a donor that does not exist.";
+
+    static final String PERSONS_FIELD = "persons";
+    static final String DONATION_RECORDS_FIELD = "donationRecords";
+    static final String GENERATION_FIELD = "generation";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableBloodNet.class);
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedDonationRecord> donationRecords = new ArrayList<>();
@@ -52,24 +68,54 @@ class JsonSerializableBloodNet {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public BloodNet toModelType() throws IllegalValueException {
-        BloodNet bloodNet = new BloodNet();
-
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (bloodNet.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            bloodNet.addPerson(person);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
         }
 
+        List<DonationRecord> modelDonationRecords = new ArrayList<>(donationRecords.size());
         for (JsonAdaptedDonationRecord jsonAdaptedDonationRecord : donationRecords) {
-            DonationRecord donationRecord = jsonAdaptedDonationRecord.toModelType();
-            if (bloodNet.hasDonationRecord(donationRecord)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            modelDonationRecords.add(jsonAdaptedDonationRecord.toModelType());
+        }
+
+        return toModelType(modelPersons, modelDonationRecords);
+    }
+
+    /**
+     * Returns a {@code BloodNet} with {@code modelPersons} and {@code modelDonationRecords}, which were read from
+     * a data file.
+     *
+     * @throws IllegalValueException if there are duplicate persons or donation records, or a donation record of
+     *     a donor who is not in {@code modelPersons}.
+     */
+    static BloodNet toModelType(List<Person> modelPersons, List<DonationRecord> modelDonationRecords)
+            throws IllegalValueException {
+        Map<UUID, UUID> personIds = new HashMap<>(modelPersons.size() * 2);
+        for (Person person : modelPersons) {
+            personIds.put(person.getId(), person.getId());
+        }
+        for (int i = 0; i < modelDonationRecords.size(); i++) {
+            DonationRecord donationRecord = modelDonationRecords.get(i);
+            UUID personId = personIds.get(donationRecord.getPersonId());
+            if (personId == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_DONOR);
             }
-            bloodNet.addDonationRecord(donationRecord);
+            // Refer to the id instance of the donor, so that the id read for each donation record can be dropped
+            modelDonationRecords.set(i, new DonationRecord(donationRecord.getId(), personId,
+                    donationRecord.getDonationDate(), donationRecord.getBloodVolume()));
         }
 
+        // The lists of the bloodnet look for duplicates as they are set, so the data is only checked once
+        BloodNet bloodNet = new BloodNet();
+        try {
+            bloodNet.setData(modelPersons, modelDonationRecords);
+        } catch (DuplicatePersonException e) {
+            e.getDuplicateGroups().forEach(group -> logger.warning("Duplicate persons found: " + group));
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        } catch (DuplicateDonationRecordException e) {
+            e.getDuplicateGroups().forEach(group -> logger.warning("Duplicate donation records found: " + group));
+            throw new IllegalValueException(MESSAGE_DUPLICATE_DONATION_RECORD);
+        }
         return bloodNet;
     }
 
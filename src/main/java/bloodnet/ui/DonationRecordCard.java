@@ -1,6 +1,9 @@
 package bloodnet.ui;
 
+import java.util.Optional;
+
 import bloodnet.model.donationrecord.DonationRecord;
+import bloodnet.model.person.Person;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -12,6 +15,7 @@ import javafx.scene.layout.Region;
 public class DonationRecordCard extends UiPart<Region> {
 
     private static final String FXML = "DonationRecordCard.fxml";
+    private static final String UNKNOWN_DONOR = "Unknown donor";
 
     public final DonationRecord record;
 
@@ -31,15 +35,15 @@ public class DonationRecordCard extends UiPart<Region> {
     private Label bloodVolume;
 
     /**
-     * Creates a {@code DonationRecordCard} with the given {@code DonationRecord} and index to display.
+     * Creates a {@code DonationRecordCard} with the given {@code DonationRecord}, its donor and index to display.
      */
-    public DonationRecordCard(DonationRecord record, int displayedIndex) {
+    public DonationRecordCard(DonationRecord record, Optional<Person> donor, int displayedIndex) {
         super(FXML);
         this.record = record;
         id.setText(displayedIndex + ". ");
-        donorName.setText(record.getDonorName() + " (" + record.getDonorPhoneNumber() + ")");
+        donorName.setText(donor.map(person -> person.getName().fullName + " (" + person.getPhone().value + ")")
+                .orElse(UNKNOWN_DONOR));
         donationDate.setText(record.getDonationDate().toString());
         bloodVolume.setText(record.getBloodVolume().toString() + " ml");
-
     }
 }
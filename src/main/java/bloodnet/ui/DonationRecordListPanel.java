@@ -3,7 +3,10 @@ package bloodnet.ui;
 import java.util.logging.Logger;
 
 import bloodnet.commons.core.LogsCenter;
+import bloodnet.model.ReadOnlyBloodNet;
 import bloodnet.model.donationrecord.DonationRecord;
+import bloodnet.model.person.Person;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -20,13 +23,20 @@ public class DonationRecordListPanel extends UiPart<Region> {
     @FXML
     private ListView<DonationRecord> donationRecordListView;
 
+    private final ReadOnlyBloodNet bloodNet;
+
     /**
      * Creates a {@code DonationRecordListPanel} with the given {@code ObservableList}.
+     * The donor of each donation record is looked up in {@code bloodNet} when the record is shown.
      */
-    public DonationRecordListPanel(ObservableList<DonationRecord> donationRecordList) {
+    public DonationRecordListPanel(ObservableList<DonationRecord> donationRecordList, ReadOnlyBloodNet bloodNet) {
         super(FXML);
+        this.bloodNet = bloodNet;
         donationRecordListView.setItems(donationRecordList);
         donationRecordListView.setCellFactory(listView -> new DonationRecordListViewCell());
+
+        // Edited donors are shown on their donation records without touching the records themselves
+        bloodNet.getPersonList().addListener((ListChangeListener<Person>) change -> donationRecordListView.refresh());
     }
 
     /**
@@ -42,10 +52,10 @@ public class DonationRecordListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new DonationRecordCard(record, getIndex() + 1).getRoot());
+                setGraphic(new DonationRecordCard(record, bloodNet.getPersonById(record.getPersonId()),
+                        getIndex() + 1).getRoot());
             }
         }
     }
 
-
 }
@@ -90,7 +90,8 @@ public class MainWindow extends UiPart<Stage> {
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        donationRecordListPanel = new DonationRecordListPanel(logic.getFilteredDonationRecordList());
+        donationRecordListPanel = new DonationRecordListPanel(logic.getFilteredDonationRecordList(),
+                logic.getBloodNet());
         donationRecordListPanelPlaceholder.getChildren().add(donationRecordListPanel.getRoot());
 
         outputDisplay = new OutputDisplay();
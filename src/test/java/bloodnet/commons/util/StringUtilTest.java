@@ -1,6 +1,7 @@
 package bloodnet.commons.util;
 
 import static bloodnet.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -123,6 +124,43 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toSoundex --------------------------------------
+
+    @Test
+    public void toSoundex_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toSoundex(null));
+    }
+
+    @Test
+    public void toSoundex_noLetters_returnsEmptyCode() {
+        assertEquals("", StringUtil.toSoundex(""));
+        assertEquals("", StringUtil.toSoundex("2"));
+        assertEquals("", StringUtil.toSoundex("-'"));
+    }
+
+    @Test
+    public void toSoundex_validInputs_correctResult() {
+        // words that sound alike share a code
+        assertEquals("J500", StringUtil.toSoundex("Jon"));
+        assertEquals("J500", StringUtil.toSoundex("john"));
+        assertEquals("M600", StringUtil.toSoundex("Meier"));
+        assertEquals("M600", StringUtil.toSoundex("MEYER"));
+
+        // adjacent letters with the same digit are coded once, including the first letter
+        assertEquals("P236", StringUtil.toSoundex("Pfister"));
+
+        // H and W do not separate letters with the same digit, but vowels do
+        assertEquals("A261", StringUtil.toSoundex("Ashcraft"));
+        assertEquals("T522", StringUtil.toSoundex("Tymczak"));
+
+        // codes are truncated and padded to four characters
+        assertEquals("R163", StringUtil.toSoundex("Robert"));
+        assertEquals("L000", StringUtil.toSoundex("Lee"));
+
+        // characters other than letters are ignored
+        assertEquals("O254", StringUtil.toSoundex("O'Connell"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
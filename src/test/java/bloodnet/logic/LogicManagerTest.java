@@ -75,6 +75,21 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_storageNotWritten() throws Exception {
+        // Any save would fail, so the command only succeeds if nothing is saved
+        JsonBloodNetStorage bloodNetStorage = new JsonBloodNetStorage(temporaryFolder.resolve("bloodnet.json")) {
+            @Override
+            public void saveBloodNet(ReadOnlyBloodNet bloodNet, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(bloodNetStorage, userPrefsStorage));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -10,6 +10,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+import java.time.Period;
 import java.util.Arrays;
 import java.util.Collections;
 
@@ -18,7 +20,11 @@ import org.junit.jupiter.api.Test;
 import bloodnet.model.Model;
 import bloodnet.model.ModelManager;
 import bloodnet.model.UserPrefs;
+import bloodnet.model.donationrecord.DonationDate;
+import bloodnet.model.person.AgeRange;
 import bloodnet.model.person.NameContainsKeywordsPredicate;
+import bloodnet.model.person.Person;
+import bloodnet.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -52,6 +58,11 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different age range -> returns false
+        FindCommand findFirstCommandWithAgeRange = new FindCommand(firstPredicate, new AgeRange("18-25"));
+        assertFalse(findFirstCommand.equals(findFirstCommandWithAgeRange));
+        assertTrue(findFirstCommandWithAgeRange.equals(new FindCommand(firstPredicate, new AgeRange("18-25"))));
     }
 
     @Test
@@ -74,11 +85,74 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_matchingPersonEditedAfterFind_personStillShown() {
+        FindCommand command = new FindCommand(preparePredicate("Kurz Elle Kunz"));
+        command.execute(model);
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone("84842424").build();
+        model.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(editedCarl, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_keywordsWithinEveryAge_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PEOPLE_LISTED_OVERVIEW, 3, "s");
+        NameContainsKeywordsPredicate predicate = preparePredicate("Kurz Elle Kunz");
+        FindCommand command = new FindCommand(predicate, new AgeRange("0-" + AgeRange.MAXIMUM_AGE));
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_ageRangeWithoutKeywords_allPersonsWithinAgeRangeFound() {
+        String expectedMessage = String.format(MESSAGE_PEOPLE_LISTED_OVERVIEW, 7, "s");
+        FindCommand command = new FindCommand(new NameContainsKeywordsPredicate(Collections.emptyList()),
+                new AgeRange("0-" + AgeRange.MAXIMUM_AGE));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(getTypicalBloodNet().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personEditedOutOfAgeRangeAfterFind_personStillShown() {
+        FindCommand command = new FindCommand(new NameContainsKeywordsPredicate(Collections.emptyList()),
+                new AgeRange("0-" + AgeRange.MAXIMUM_AGE));
+        command.execute(model);
+
+        Person editedCarl = new PersonBuilder(CARL).withDateOfBirth(DonationDate.getTodayDate().toString()).build();
+        model.setPerson(CARL, editedCarl);
+        assertTrue(model.getFilteredPersonList().contains(editedCarl));
+        assertEquals(getTypicalBloodNet().getPersonList().size(), model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_keywordsWithinAgeRange_onlyPersonsWithinAgeRangeFound() {
+        String expectedMessage = String.format(MESSAGE_PEOPLE_LISTED_OVERVIEW, 1, "");
+        NameContainsKeywordsPredicate predicate = preparePredicate("Kurz Elle Kunz");
+        LocalDate today = DonationDate.getTodayDate().getValue();
+        int carlAge = Period.between(CARL.getDateOfBirth().getValue(), today).getYears();
+        FindCommand command = new FindCommand(predicate, new AgeRange(carlAge + "-" + carlAge));
+        expectedModel.updateFilteredPersonList(person -> predicate.test(person)
+                && Period.between(person.getDateOfBirth().getValue(), today).getYears() == carlAge);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_keywordsOutsideAgeRange_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PEOPLE_LISTED_OVERVIEW, 0, "s");
+        FindCommand command = new FindCommand(preparePredicate("Kurz Elle Kunz"), new AgeRange("0-0"));
+        expectedModel.updateFilteredPersonList(unused -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + ", ageRange=null}";
         assertEquals(expected, findCommand.toString());
     }
 
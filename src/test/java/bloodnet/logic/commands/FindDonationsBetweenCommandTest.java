@@ -0,0 +1,109 @@
+package bloodnet.logic.commands;
+
+import static bloodnet.logic.Messages.MESSAGE_DONATIONS_BETWEEN_LISTED_OVERVIEW;
+import static bloodnet.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static bloodnet.testutil.TypicalDonationRecords.ALICE_DONATION_RECORDS;
+import static bloodnet.testutil.TypicalDonationRecords.BENSON_DONATION_RECORD;
+import static bloodnet.testutil.TypicalDonationRecords.getTypicalBloodNet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.model.Model;
+import bloodnet.model.ModelManager;
+import bloodnet.model.UserPrefs;
+import bloodnet.model.donationrecord.DonationDate;
+import bloodnet.model.donationrecord.DonationRecord;
+import bloodnet.model.person.BloodType;
+import bloodnet.testutil.DonationRecordBuilder;
+
+public class FindDonationsBetweenCommandTest {
+    private static final DonationDate FIRST_DAY_OF_2025 = new DonationDate("01-01-2025");
+    private static final DonationDate LAST_DAY_OF_MARCH_2025 = new DonationDate("31-03-2025");
+
+    private Model model = new ModelManager(getTypicalBloodNet(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalBloodNet(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindDonationsBetweenCommand firstCommand =
+                new FindDonationsBetweenCommand(FIRST_DAY_OF_2025, LAST_DAY_OF_MARCH_2025, Collections.emptySet());
+        FindDonationsBetweenCommand secondCommand = new FindDonationsBetweenCommand(FIRST_DAY_OF_2025,
+                LAST_DAY_OF_MARCH_2025, EnumSet.of(BloodType.Kind.O_POSITIVE));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new FindDonationsBetweenCommand(new DonationDate("01-01-2025"),
+                new DonationDate("31-03-2025"), EnumSet.noneOf(BloodType.Kind.class))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different blood types -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+
+        // different dates -> returns false
+        assertFalse(firstCommand.equals(
+                new FindDonationsBetweenCommand(FIRST_DAY_OF_2025, FIRST_DAY_OF_2025, Collections.emptySet())));
+    }
+
+    @Test
+    public void execute_dateRange_donationRecordsInRangeFound() {
+        String expectedMessage = String.format(MESSAGE_DONATIONS_BETWEEN_LISTED_OVERVIEW, 2, "s",
+                FIRST_DAY_OF_2025, LAST_DAY_OF_MARCH_2025);
+        FindDonationsBetweenCommand command =
+                new FindDonationsBetweenCommand(FIRST_DAY_OF_2025, LAST_DAY_OF_MARCH_2025, Collections.emptySet());
+
+        expectedModel.updateFilteredDonationRecordList(record -> record.equals(ALICE_DONATION_RECORDS.get(0))
+                || record.equals(BENSON_DONATION_RECORD));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(ALICE_DONATION_RECORDS.get(0), BENSON_DONATION_RECORD),
+                model.getFilteredDonationRecordList());
+    }
+
+    @Test
+    public void execute_dateRangeAndBloodType_onlyDonationRecordsOfMatchingDonorsFound() {
+        String expectedMessage = String.format(MESSAGE_DONATIONS_BETWEEN_LISTED_OVERVIEW, 1, "",
+                FIRST_DAY_OF_2025, LAST_DAY_OF_MARCH_2025);
+        Set<BloodType.Kind> bloodTypeKinds = EnumSet.of(BloodType.Kind.A_NEGATIVE, BloodType.Kind.O_POSITIVE);
+        FindDonationsBetweenCommand command =
+                new FindDonationsBetweenCommand(FIRST_DAY_OF_2025, LAST_DAY_OF_MARCH_2025, bloodTypeKinds);
+
+        expectedModel.updateFilteredDonationRecordList(BENSON_DONATION_RECORD::equals);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(BENSON_DONATION_RECORD), model.getFilteredDonationRecordList());
+    }
+
+    @Test
+    public void execute_donationRecordEditedAfterFind_donationRecordStillShown() {
+        FindDonationsBetweenCommand command =
+                new FindDonationsBetweenCommand(FIRST_DAY_OF_2025, LAST_DAY_OF_MARCH_2025, Collections.emptySet());
+        command.execute(model);
+
+        DonationRecord editedRecord = new DonationRecordBuilder(BENSON_DONATION_RECORD)
+                .withBloodVolume("450").build();
+        model.setDonationRecord(BENSON_DONATION_RECORD, editedRecord);
+        assertEquals(List.of(ALICE_DONATION_RECORDS.get(0), editedRecord), model.getFilteredDonationRecordList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        FindDonationsBetweenCommand command = new FindDonationsBetweenCommand(FIRST_DAY_OF_2025,
+                LAST_DAY_OF_MARCH_2025, EnumSet.of(BloodType.Kind.O_POSITIVE));
+        String expected = FindDonationsBetweenCommand.class.getCanonicalName() + "{startDate=" + FIRST_DAY_OF_2025
+                + ", endDate=" + LAST_DAY_OF_MARCH_2025 + ", bloodTypes=[O_POSITIVE]}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -20,9 +20,12 @@ import bloodnet.model.Model;
 import bloodnet.model.ModelManager;
 import bloodnet.model.UserPrefs;
 import bloodnet.model.donationrecord.DonationDate;
+import bloodnet.model.person.AgeRange;
 import bloodnet.model.person.HasBloodTypeAndIsEligibleToDonatePredicate;
 import bloodnet.model.person.HasBloodTypePredicate;
 import bloodnet.model.person.IsEligibleToDonatePredicate;
+import bloodnet.model.person.Person;
+import bloodnet.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindEligibleCommand}.
@@ -54,6 +57,9 @@ public class FindEligibleCommandTest {
 
         // same values and different object -> returns false
         assertTrue(findEligibleFirstCommand.equals(findEligibleFirstCommandCopy));
+
+        // different age range -> returns false
+        assertFalse(findEligibleFirstCommand.equals(new FindEligibleCommand(listOfBloodTypes, new AgeRange("18-25"))));
     }
 
     @Test
@@ -61,7 +67,8 @@ public class FindEligibleCommandTest {
         List<String> listOfBloodTypes = Arrays.asList("B+", "O+", "A+");
         FindEligibleCommand findEligibleCommand = new FindEligibleCommand(listOfBloodTypes);
 
-        String expected = FindEligibleCommand.class.getCanonicalName() + "{bloodTypes=" + listOfBloodTypes + "}";
+        String expected = FindEligibleCommand.class.getCanonicalName() + "{bloodTypes=" + listOfBloodTypes
+                + ", ageRange=null}";
         assertEquals(expected, findEligibleCommand.toString());
     }
 
@@ -110,6 +117,44 @@ public class FindEligibleCommandTest {
         assertEquals(Arrays.asList(ALICE, CARL), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_multipleMatchesOutsideAgeRange_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PEOPLE_LISTED_OVERVIEW, 0, "s");
+        FindEligibleCommand findEligibleCommand =
+                new FindEligibleCommand(Arrays.asList("B+", "A+"), new AgeRange("0-0"));
+
+        expectedModel.updateFilteredPersonList(unused -> false);
+
+        assertCommandSuccess(findEligibleCommand, model, expectedMessage, expectedModel);
+
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
 
+    @Test
+    public void execute_multipleMatchesWithinEveryAge_executesSuccessfully() {
+        String expectedMessage = String.format(MESSAGE_PEOPLE_LISTED_OVERVIEW, 2, "s");
+        List<String> listOfBloodTypes = Arrays.asList("B+", "A+");
+        FindEligibleCommand findEligibleCommand =
+                new FindEligibleCommand(listOfBloodTypes, new AgeRange("0-" + AgeRange.MAXIMUM_AGE));
 
+        HasBloodTypeAndIsEligibleToDonatePredicate predicate =
+                new HasBloodTypeAndIsEligibleToDonatePredicate(
+                        new HasBloodTypePredicate(listOfBloodTypes),
+                        new IsEligibleToDonatePredicate(model, DonationDate.getTodayDate()));
+
+        expectedModel.updateFilteredPersonList(predicate);
+
+        assertCommandSuccess(findEligibleCommand, model, expectedMessage, expectedModel);
+
+        assertEquals(Arrays.asList(ALICE, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_matchingPersonEditedAfterFind_personStillShown() {
+        new FindEligibleCommand(Arrays.asList("B+", "A+")).execute(model);
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone("84842424").build();
+        model.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(ALICE, editedCarl), model.getFilteredPersonList());
+    }
 }
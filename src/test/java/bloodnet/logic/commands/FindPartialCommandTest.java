@@ -0,0 +1,82 @@
+package bloodnet.logic.commands;
+
+import static bloodnet.logic.Messages.MESSAGE_PEOPLE_LISTED_OVERVIEW;
+import static bloodnet.testutil.TypicalPersons.BENSON;
+import static bloodnet.testutil.TypicalPersons.DANIEL;
+import static bloodnet.testutil.TypicalPersons.getTypicalBloodNet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.model.Model;
+import bloodnet.model.ModelManager;
+import bloodnet.model.UserPrefs;
+import bloodnet.model.person.Person;
+import bloodnet.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindPartialCommand}.
+ */
+public class FindPartialCommandTest {
+    private Model model = new ModelManager(getTypicalBloodNet(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindPartialCommand findFirstCommand = new FindPartialCommand("first");
+        FindPartialCommand findSecondCommand = new FindPartialCommand("second");
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindPartialCommand("first")));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different partial name -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatch_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PEOPLE_LISTED_OVERVIEW, 0, "s");
+        InputResponse response = new FindPartialCommand("xyz").execute(model);
+        assertEquals(expectedMessage, response.getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_partialMatches_closestMatchFirst() {
+        String expectedMessage = String.format(MESSAGE_PEOPLE_LISTED_OVERVIEW, 2, "s");
+        InputResponse response = new FindPartialCommand("el meier").execute(model);
+        assertEquals(expectedMessage, response.getFeedbackToUser());
+
+        // Benson comes before Daniel in the donor list, but Daniel's name is a closer match
+        assertEquals(Arrays.asList(DANIEL, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_matchingPersonEditedAfterFind_personStillShown() {
+        new FindPartialCommand("el meier").execute(model);
+
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("84842424").build();
+        model.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(DANIEL, editedBenson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        FindPartialCommand findPartialCommand = new FindPartialCommand("lice");
+        String expected = FindPartialCommand.class.getCanonicalName() + "{partialName=lice}";
+        assertEquals(expected, findPartialCommand.toString());
+    }
+}
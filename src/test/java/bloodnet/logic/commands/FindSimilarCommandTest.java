@@ -0,0 +1,88 @@
+package bloodnet.logic.commands;
+
+import static bloodnet.logic.Messages.MESSAGE_PEOPLE_LISTED_OVERVIEW;
+import static bloodnet.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static bloodnet.testutil.TypicalPersons.BENSON;
+import static bloodnet.testutil.TypicalPersons.DANIEL;
+import static bloodnet.testutil.TypicalPersons.ELLE;
+import static bloodnet.testutil.TypicalPersons.getTypicalBloodNet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.model.Model;
+import bloodnet.model.ModelManager;
+import bloodnet.model.UserPrefs;
+import bloodnet.model.person.Person;
+import bloodnet.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindSimilarCommand}.
+ */
+public class FindSimilarCommandTest {
+    private Model model = new ModelManager(getTypicalBloodNet(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalBloodNet(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindSimilarCommand findFirstCommand = new FindSimilarCommand(Collections.singletonList("first"));
+        FindSimilarCommand findSecondCommand = new FindSimilarCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindSimilarCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_noSimilarName_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PEOPLE_LISTED_OVERVIEW, 0, "s");
+        FindSimilarCommand command = new FindSimilarCommand(Collections.singletonList("Tan"));
+        expectedModel.updateFilteredPersonList(person -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_similarName_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PEOPLE_LISTED_OVERVIEW, 3, "s");
+        List<String> keywords = Arrays.asList("Mayer");
+        FindSimilarCommand command = new FindSimilarCommand(keywords);
+        expectedModel.updateFilteredPersonList(person -> person.getName().fullName.matches(".*Me[iy]er"));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_matchingPersonEditedAfterFind_personStillShown() {
+        new FindSimilarCommand(Collections.singletonList("Mayer")).execute(model);
+
+        Person editedDaniel = new PersonBuilder(DANIEL).withPhone("84842424").build();
+        model.setPerson(DANIEL, editedDaniel);
+        assertEquals(Arrays.asList(BENSON, editedDaniel, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = Arrays.asList("jon", "tan");
+        FindSimilarCommand findSimilarCommand = new FindSimilarCommand(keywords);
+        String expected = FindSimilarCommand.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, findSimilarCommand.toString());
+    }
+}
@@ -0,0 +1,97 @@
+package bloodnet.logic.commands;
+
+import static bloodnet.logic.Messages.MESSAGE_PEOPLE_LISTED_OVERVIEW;
+import static bloodnet.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static bloodnet.testutil.TypicalPersons.ALICE;
+import static bloodnet.testutil.TypicalPersons.BENSON;
+import static bloodnet.testutil.TypicalPersons.CARL;
+import static bloodnet.testutil.TypicalPersons.getTypicalBloodNet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.model.Model;
+import bloodnet.model.ModelManager;
+import bloodnet.model.UserPrefs;
+import bloodnet.model.person.Email;
+import bloodnet.model.person.Person;
+import bloodnet.model.person.Phone;
+import bloodnet.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code LookupCommand}.
+ */
+public class LookupCommandTest {
+    private Model model = new ModelManager(getTypicalBloodNet(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalBloodNet(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        LookupCommand lookupPhoneCommand = new LookupCommand(ALICE.getPhone(), null);
+        LookupCommand lookupEmailCommand = new LookupCommand(null, ALICE.getEmail());
+
+        // same object -> returns true
+        assertTrue(lookupPhoneCommand.equals(lookupPhoneCommand));
+
+        // same values -> returns true
+        assertTrue(lookupPhoneCommand.equals(new LookupCommand(new Phone(ALICE.getPhone().value), null)));
+
+        // different types -> returns false
+        assertFalse(lookupPhoneCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(lookupPhoneCommand.equals(null));
+
+        // different fields -> returns false
+        assertFalse(lookupPhoneCommand.equals(lookupEmailCommand));
+        assertFalse(lookupPhoneCommand.equals(new LookupCommand(BENSON.getPhone(), null)));
+    }
+
+    @Test
+    public void execute_unknownPhone_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PEOPLE_LISTED_OVERVIEW, 0, "s");
+        LookupCommand command = new LookupCommand(new Phone("61234567"), null);
+        expectedModel.updateFilteredPersonList(person -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_phone_onePersonFound() {
+        String expectedMessage = String.format(MESSAGE_PEOPLE_LISTED_OVERVIEW, 1, "");
+        LookupCommand command = new LookupCommand(BENSON.getPhone(), null);
+        expectedModel.updateFilteredPersonList(BENSON::equals);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_phoneAndEmail_personsWithEitherFound() {
+        String expectedMessage = String.format(MESSAGE_PEOPLE_LISTED_OVERVIEW, 2, "s");
+        LookupCommand command = new LookupCommand(ALICE.getPhone(), new Email(CARL.getEmail().value));
+        expectedModel.updateFilteredPersonList(person -> person.equals(ALICE) || person.equals(CARL));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_matchingPersonEditedAfterLookup_personStillShown() {
+        new LookupCommand(BENSON.getPhone(), null).execute(model);
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        model.setPerson(BENSON, editedBenson);
+        assertEquals(Collections.singletonList(editedBenson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        LookupCommand lookupCommand = new LookupCommand(ALICE.getPhone(), null);
+        String expected = LookupCommand.class.getCanonicalName() + "{phone=" + ALICE.getPhone() + ", email=null}";
+        assertEquals(expected, lookupCommand.toString());
+    }
+}
@@ -0,0 +1,90 @@
+package bloodnet.logic.commands;
+
+import static bloodnet.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static bloodnet.testutil.TypicalDonationRecords.getTypicalBloodNet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.model.InventoryTotals;
+import bloodnet.model.Model;
+import bloodnet.model.ModelManager;
+import bloodnet.model.UserPrefs;
+import bloodnet.model.donationrecord.DonationDate;
+import bloodnet.model.person.BloodType;
+
+public class StatsCommandTest {
+    private static final DonationDate FIRST_DAY_OF_2025 = new DonationDate("01-01-2025");
+    private static final DonationDate LAST_DAY_OF_MARCH_2025 = new DonationDate("31-03-2025");
+
+    private Model model = new ModelManager(getTypicalBloodNet(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalBloodNet(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        StatsCommand firstCommand = new StatsCommand(FIRST_DAY_OF_2025, LAST_DAY_OF_MARCH_2025,
+                Collections.emptySet());
+        StatsCommand secondCommand = new StatsCommand(FIRST_DAY_OF_2025, LAST_DAY_OF_MARCH_2025,
+                EnumSet.of(BloodType.Kind.O_NEGATIVE));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new StatsCommand(new DonationDate("01-01-2025"),
+                new DonationDate("31-03-2025"), EnumSet.noneOf(BloodType.Kind.class))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different blood types -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+
+        // different dates -> returns false
+        assertFalse(firstCommand.equals(
+                new StatsCommand(FIRST_DAY_OF_2025, FIRST_DAY_OF_2025, Collections.emptySet())));
+    }
+
+    @Test
+    public void execute_bloodTypes_totalsOfBloodTypesShown() {
+        StatsCommand command = new StatsCommand(FIRST_DAY_OF_2025, LAST_DAY_OF_MARCH_2025,
+                EnumSet.of(BloodType.Kind.O_NEGATIVE, BloodType.Kind.A_POSITIVE));
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, FIRST_DAY_OF_2025,
+                LAST_DAY_OF_MARCH_2025, "A+: 1 donation, 400 ml\nO-: 0 donations, 0 ml\nTotal: 1 donation, 400 ml");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noBloodTypes_totalsOfEveryBloodTypeShown() {
+        StatsCommand command = new StatsCommand(FIRST_DAY_OF_2025, LAST_DAY_OF_MARCH_2025,
+                Collections.emptySet());
+        StringBuilder expectedTotals = new StringBuilder();
+        for (BloodType.Kind kind : BloodType.Kind.values()) {
+            InventoryTotals totals = kind == BloodType.Kind.A_POSITIVE || kind == BloodType.Kind.A_NEGATIVE
+                    ? new InventoryTotals(1, 400)
+                    : InventoryTotals.NONE;
+            expectedTotals.append(StatsCommand.formatTotals(kind.getLabel(), totals)).append("\n");
+        }
+        expectedTotals.append("Total: 2 donations, 800 ml");
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, FIRST_DAY_OF_2025,
+                LAST_DAY_OF_MARCH_2025, expectedTotals);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void toStringMethod() {
+        StatsCommand command = new StatsCommand(FIRST_DAY_OF_2025, LAST_DAY_OF_MARCH_2025,
+                EnumSet.of(BloodType.Kind.O_NEGATIVE));
+        String expected = StatsCommand.class.getCanonicalName() + "{startDate=" + FIRST_DAY_OF_2025
+                + ", endDate=" + LAST_DAY_OF_MARCH_2025 + ", bloodTypes=[O_NEGATIVE]}";
+        assertEquals(expected, command.toString());
+    }
+}
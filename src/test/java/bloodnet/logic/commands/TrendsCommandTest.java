@@ -0,0 +1,93 @@
+package bloodnet.logic.commands;
+
+import static bloodnet.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static bloodnet.testutil.TypicalDonationRecords.getTypicalBloodNet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.model.Model;
+import bloodnet.model.ModelManager;
+import bloodnet.model.UserPrefs;
+import bloodnet.model.donationrecord.DonationDate;
+
+public class TrendsCommandTest {
+    private static final DonationDate FIRST_DAY_OF_2025 = new DonationDate("01-01-2025");
+    private static final DonationDate LAST_DAY_OF_JULY_2025 = new DonationDate("31-07-2025");
+
+    private Model model = new ModelManager(getTypicalBloodNet(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalBloodNet(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        TrendsCommand firstCommand = new TrendsCommand(FIRST_DAY_OF_2025, LAST_DAY_OF_JULY_2025, 30);
+        TrendsCommand secondCommand = new TrendsCommand(FIRST_DAY_OF_2025, LAST_DAY_OF_JULY_2025, 7);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new TrendsCommand(new DonationDate("01-01-2025"),
+                new DonationDate("31-07-2025"), 30)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different period length -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+
+        // different dates -> returns false
+        assertFalse(firstCommand.equals(new TrendsCommand(FIRST_DAY_OF_2025, FIRST_DAY_OF_2025, 30)));
+    }
+
+    @Test
+    public void execute_donationsInRange_trendsShown() {
+        TrendsCommand command = new TrendsCommand(FIRST_DAY_OF_2025, LAST_DAY_OF_JULY_2025, 60);
+        String expectedMessage = String.format(TrendsCommand.MESSAGE_SUCCESS, FIRST_DAY_OF_2025,
+                LAST_DAY_OF_JULY_2025, "Total: 4 donations, 1650 ml", 60,
+                "01-01-2025 to 01-03-2025: 1 donation\n"
+                        + "02-03-2025 to 30-04-2025: 1 donation\n"
+                        + "01-05-2025 to 29-06-2025: 1 donation\n"
+                        // the last period is cut short by the end date
+                        + "30-06-2025 to 31-07-2025: 1 donation",
+                // donors with as many donations are ordered by name
+                "Alice Pauline: 2 donations\nBenson Meier: 2 donations");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_donorsWithMoreDonations_shownFirst() {
+        DonationDate firstDayOfMarch2025 = new DonationDate("01-03-2025");
+        TrendsCommand command = new TrendsCommand(firstDayOfMarch2025, LAST_DAY_OF_JULY_2025, 365);
+        String expectedMessage = String.format(TrendsCommand.MESSAGE_SUCCESS, firstDayOfMarch2025,
+                LAST_DAY_OF_JULY_2025, "Total: 3 donations, 1250 ml", 365,
+                "01-03-2025 to 31-07-2025: 3 donations",
+                "Benson Meier: 2 donations\nAlice Pauline: 1 donation");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noDonationsInRange_noDonorsShown() {
+        DonationDate firstDayOf2024 = new DonationDate("01-01-2024");
+        DonationDate lastDayOfJanuary2024 = new DonationDate("31-01-2024");
+        TrendsCommand command = new TrendsCommand(firstDayOf2024, lastDayOfJanuary2024, 30);
+        String expectedMessage = String.format(TrendsCommand.MESSAGE_SUCCESS, firstDayOf2024,
+                lastDayOfJanuary2024, "Total: 0 donations, 0 ml", 30,
+                "01-01-2024 to 30-01-2024: 0 donations\n31-01-2024 to 31-01-2024: 0 donations",
+                TrendsCommand.MESSAGE_NO_DONORS);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void toStringMethod() {
+        TrendsCommand command = new TrendsCommand(FIRST_DAY_OF_2025, LAST_DAY_OF_JULY_2025, 30);
+        String expected = TrendsCommand.class.getCanonicalName() + "{startDate=" + FIRST_DAY_OF_2025
+                + ", endDate=" + LAST_DAY_OF_JULY_2025 + ", periodLength=30}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,17 +23,26 @@ import bloodnet.logic.commands.EditCommand.EditPersonDescriptor;
 import bloodnet.logic.commands.EditDonationCommand;
 import bloodnet.logic.commands.ExitCommand;
 import bloodnet.logic.commands.FindCommand;
+import bloodnet.logic.commands.FindDonationsBetweenCommand;
 import bloodnet.logic.commands.FindDonationsCommand;
 import bloodnet.logic.commands.FindEligibleCommand;
+import bloodnet.logic.commands.FindPartialCommand;
+import bloodnet.logic.commands.FindSimilarCommand;
 import bloodnet.logic.commands.HelpCommand;
 import bloodnet.logic.commands.ListCommand;
+import bloodnet.logic.commands.LookupCommand;
+import bloodnet.logic.commands.StatsCommand;
+import bloodnet.logic.commands.TrendsCommand;
 import bloodnet.logic.parser.exceptions.ParseException;
 import bloodnet.model.Model;
 import bloodnet.model.ModelManager;
 import bloodnet.model.UserPrefs;
 import bloodnet.model.donationrecord.BloodVolume;
+import bloodnet.model.donationrecord.DonationDate;
+import bloodnet.model.person.BloodType;
 import bloodnet.model.person.NameContainsKeywordsPredicate;
 import bloodnet.model.person.Person;
+import bloodnet.model.person.Phone;
 import bloodnet.testutil.EditPersonDescriptorBuilder;
 import bloodnet.testutil.PersonBuilder;
 import bloodnet.testutil.PersonUtil;
@@ -92,6 +102,29 @@ public class BloodNetParserTest {
         assertEquals(new FindDonationsCommand(INDEX_FIRST_PERSON), command);
     }
 
+    @Test
+    public void parseCommand_finddonationsbetween() throws Exception {
+        FindDonationsBetweenCommand command = (FindDonationsBetweenCommand) parser.parseCommand(
+                FindDonationsBetweenCommand.COMMAND_WORD + " f/01-01-2025 t/31-03-2025");
+        assertEquals(new FindDonationsBetweenCommand(new DonationDate("01-01-2025"), new DonationDate("31-03-2025"),
+                EnumSet.noneOf(BloodType.Kind.class)), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        StatsCommand command = (StatsCommand) parser.parseCommand(
+                StatsCommand.COMMAND_WORD + " f/01-10-2025 t/31-10-2025 b/O-");
+        assertEquals(new StatsCommand(new DonationDate("01-10-2025"), new DonationDate("31-10-2025"),
+                EnumSet.of(BloodType.Kind.O_NEGATIVE)), command);
+    }
+
+    @Test
+    public void parseCommand_trends() throws Exception {
+        TrendsCommand command = (TrendsCommand) parser.parseCommand(
+                TrendsCommand.COMMAND_WORD + " f/01-01-2025 t/31-12-2025 l/7");
+        assertEquals(new TrendsCommand(new DonationDate("01-01-2025"), new DonationDate("31-12-2025"), 7), command);
+    }
+
     @Test
     public void parseCommand_editdonations() throws Exception {
         EditDonationCommand command = (EditDonationCommand) parser.parseCommand(
@@ -112,6 +145,27 @@ public class BloodNetParserTest {
                 command);
     }
 
+    @Test
+    public void parseCommand_findpartial() throws Exception {
+        FindPartialCommand command = (FindPartialCommand) parser.parseCommand(
+                FindPartialCommand.COMMAND_WORD + " lice pau");
+        assertEquals(new FindPartialCommand("lice pau"), command);
+    }
+
+    @Test
+    public void parseCommand_findsimilar() throws Exception {
+        List<String> keywords = Arrays.asList("jon", "tan");
+        FindSimilarCommand command = (FindSimilarCommand) parser.parseCommand(
+                FindSimilarCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new FindSimilarCommand(keywords), command);
+    }
+
+    @Test
+    public void parseCommand_lookup() throws Exception {
+        LookupCommand command = (LookupCommand) parser.parseCommand(LookupCommand.COMMAND_WORD + " p/98765432");
+        assertEquals(new LookupCommand(new Phone("98765432"), null), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
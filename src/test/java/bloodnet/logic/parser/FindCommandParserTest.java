@@ -1,14 +1,18 @@
 package bloodnet.logic.parser;
 
 import static bloodnet.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_AGE_RANGE;
 import static bloodnet.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static bloodnet.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import bloodnet.logic.Messages;
 import bloodnet.logic.commands.FindCommand;
+import bloodnet.model.person.AgeRange;
 import bloodnet.model.person.NameContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
@@ -32,4 +36,30 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_validArgsWithAgeRange_returnsFindCommand() {
+        AgeRange ageRange = new AgeRange("18-25");
+
+        // keywords and age range
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), ageRange);
+        assertParseSuccess(parser, " Alice Bob " + PREFIX_AGE_RANGE + "18-25", expectedFindCommand);
+
+        // age range only
+        expectedFindCommand = new FindCommand(new NameContainsKeywordsPredicate(Collections.emptyList()), ageRange);
+        assertParseSuccess(parser, " " + PREFIX_AGE_RANGE + " 18-25 ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidAgeRange_throwsParseException() {
+        assertParseFailure(parser, " Alice " + PREFIX_AGE_RANGE + "25-18", AgeRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " Alice " + PREFIX_AGE_RANGE, AgeRange.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_duplicateAgeRange_throwsParseException() {
+        assertParseFailure(parser, " Alice " + PREFIX_AGE_RANGE + "18-25 " + PREFIX_AGE_RANGE + "30-40",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_AGE_RANGE));
+    }
+
 }
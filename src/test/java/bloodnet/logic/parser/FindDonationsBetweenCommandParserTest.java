@@ -0,0 +1,64 @@
+package bloodnet.logic.parser;
+
+import static bloodnet.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static bloodnet.logic.Messages.MESSAGE_START_DATE_AFTER_END_DATE;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static bloodnet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static bloodnet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.logic.Messages;
+import bloodnet.logic.commands.FindDonationsBetweenCommand;
+import bloodnet.model.donationrecord.DonationDate;
+import bloodnet.model.person.BloodType;
+
+public class FindDonationsBetweenCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindDonationsBetweenCommand.getMessageUsage());
+
+    private final FindDonationsBetweenCommandParser parser = new FindDonationsBetweenCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no end date
+        assertParseFailure(parser, " f/01-01-2025", MESSAGE_INVALID_FORMAT);
+
+        // no start date
+        assertParseFailure(parser, " t/31-03-2025 b/O+", MESSAGE_INVALID_FORMAT);
+
+        // preamble present
+        assertParseFailure(parser, " 1 f/01-01-2025 t/31-03-2025", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " f/32-01-2025 t/31-03-2025", DonationDate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " f/01-01-2025 t/31-03-2025 b/C+", BloodType.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " f/31-03-2025 t/01-01-2025", MESSAGE_START_DATE_AFTER_END_DATE);
+        assertParseFailure(parser, " f/01-01-2025 f/02-01-2025 t/31-03-2025",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_START_DATE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindDonationsBetweenCommand() {
+        DonationDate startDate = new DonationDate("01-01-2025");
+        DonationDate endDate = new DonationDate("31-03-2025");
+
+        // no blood types
+        assertParseSuccess(parser, " f/01-01-2025 t/31-03-2025",
+                new FindDonationsBetweenCommand(startDate, endDate, EnumSet.noneOf(BloodType.Kind.class)));
+
+        // same start and end date
+        assertParseSuccess(parser, " t/01-01-2025 f/01-01-2025",
+                new FindDonationsBetweenCommand(startDate, startDate, EnumSet.noneOf(BloodType.Kind.class)));
+
+        // multiple blood types
+        assertParseSuccess(parser, " f/01-01-2025 t/31-03-2025 b/o+ b/AB-",
+                new FindDonationsBetweenCommand(startDate, endDate,
+                        EnumSet.of(BloodType.Kind.O_POSITIVE, BloodType.Kind.AB_NEGATIVE)));
+    }
+}
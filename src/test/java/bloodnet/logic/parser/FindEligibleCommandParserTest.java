@@ -1,6 +1,7 @@
 package bloodnet.logic.parser;
 
 import static bloodnet.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_AGE_RANGE;
 import static bloodnet.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static bloodnet.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
@@ -9,6 +10,7 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import bloodnet.logic.commands.FindEligibleCommand;
+import bloodnet.model.person.AgeRange;
 import bloodnet.model.person.BloodType;
 
 
@@ -43,4 +45,21 @@ public class FindEligibleCommandParserTest {
         FindEligibleCommand findEligibleCommand = new FindEligibleCommand(Arrays.asList(arrayOfBloodTypes));
         assertParseSuccess(parser, "O+ A+ AB+", findEligibleCommand);
     }
+
+    @Test
+    public void parse_validArgWithAgeRange_success() {
+        FindEligibleCommand findEligibleCommand =
+                new FindEligibleCommand(Arrays.asList("O+", "A+"), new AgeRange("18-25"));
+        assertParseSuccess(parser, " O+ A+ " + PREFIX_AGE_RANGE + "18-25", findEligibleCommand);
+    }
+
+    @Test
+    public void parse_ageRangeWithoutBloodTypes_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_AGE_RANGE + "18-25", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidAgeRange_throwsParseException() {
+        assertParseFailure(parser, " O+ " + PREFIX_AGE_RANGE + "18-131", AgeRange.MESSAGE_CONSTRAINTS);
+    }
 }
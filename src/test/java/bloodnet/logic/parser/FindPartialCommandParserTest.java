@@ -0,0 +1,31 @@
+package bloodnet.logic.parser;
+
+import static bloodnet.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static bloodnet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static bloodnet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.logic.commands.FindPartialCommand;
+
+public class FindPartialCommandParserTest {
+
+    private final FindPartialCommandParser parser = new FindPartialCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPartialCommand.getMessageUsage()));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindPartialCommand() {
+        // no leading and trailing whitespaces
+        FindPartialCommand expectedFindPartialCommand = new FindPartialCommand("lice pau");
+        assertParseSuccess(parser, "lice pau", expectedFindPartialCommand);
+
+        // multiple whitespaces between words
+        assertParseSuccess(parser, " \n lice \n \t pau  \t", expectedFindPartialCommand);
+    }
+
+}
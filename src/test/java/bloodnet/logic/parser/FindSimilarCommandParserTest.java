@@ -0,0 +1,34 @@
+package bloodnet.logic.parser;
+
+import static bloodnet.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static bloodnet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static bloodnet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.logic.commands.FindSimilarCommand;
+
+public class FindSimilarCommandParserTest {
+
+    private final FindSimilarCommandParser parser = new FindSimilarCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSimilarCommand.getMessageUsage()));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindSimilarCommand() {
+        // no leading and trailing whitespaces
+        FindSimilarCommand expectedFindSimilarCommand =
+                new FindSimilarCommand(Arrays.asList("Alice", "Bob"));
+        assertParseSuccess(parser, "Alice Bob", expectedFindSimilarCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindSimilarCommand);
+    }
+
+}
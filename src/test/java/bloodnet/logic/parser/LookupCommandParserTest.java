@@ -0,0 +1,62 @@
+package bloodnet.logic.parser;
+
+import static bloodnet.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static bloodnet.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static bloodnet.logic.commands.CommandTestUtil.INVALID_EMAIL_DESC;
+import static bloodnet.logic.commands.CommandTestUtil.INVALID_PHONE_DESC;
+import static bloodnet.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static bloodnet.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static bloodnet.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
+import static bloodnet.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_PHONE;
+import static bloodnet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static bloodnet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.logic.Messages;
+import bloodnet.logic.commands.LookupCommand;
+import bloodnet.model.person.Email;
+import bloodnet.model.person.Phone;
+
+public class LookupCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.getMessageUsage());
+
+    private final LookupCommandParser parser = new LookupCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no field specified
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+
+        // preamble present
+        assertParseFailure(parser, "some random string" + PHONE_DESC_AMY, MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, INVALID_PHONE_DESC, Phone.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, INVALID_EMAIL_DESC, Email.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_repeatedPhone_failure() {
+        assertParseFailure(parser, PHONE_DESC_AMY + PHONE_DESC_BOB,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_PHONE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsLookupCommand() {
+        // phone only
+        assertParseSuccess(parser, PHONE_DESC_AMY, new LookupCommand(new Phone(VALID_PHONE_AMY), null));
+
+        // email only
+        assertParseSuccess(parser, EMAIL_DESC_AMY, new LookupCommand(null, new Email(VALID_EMAIL_AMY)));
+
+        // both
+        assertParseSuccess(parser, EMAIL_DESC_AMY + PHONE_DESC_AMY,
+                new LookupCommand(new Phone(VALID_PHONE_AMY), new Email(VALID_EMAIL_AMY)));
+    }
+}
@@ -1,10 +1,15 @@
 package bloodnet.logic.parser;
 
+import static bloodnet.logic.Messages.MESSAGE_START_DATE_AFTER_END_DATE;
 import static bloodnet.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static bloodnet.logic.parser.ParserUtil.MESSAGE_INVALID_PERIOD_LENGTH;
 import static bloodnet.testutil.Assert.assertThrows;
 import static bloodnet.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.EnumSet;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import bloodnet.logic.parser.exceptions.ParseException;
@@ -51,6 +56,17 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parsePeriodLength_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_PERIOD_LENGTH, () -> ParserUtil.parsePeriodLength("0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_PERIOD_LENGTH, () -> ParserUtil.parsePeriodLength("7 a"));
+    }
+
+    @Test
+    public void parsePeriodLength_validInput_success() throws Exception {
+        assertEquals(7, ParserUtil.parsePeriodLength("  7  "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -192,6 +208,30 @@ public class ParserUtilTest {
         assertEquals(expectedDonationDate, ParserUtil.parseDonationDate(donationDateWithWhitespace));
     }
 
+    @Test
+    public void parseEndDate_endDateBeforeStartDate_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_START_DATE_AFTER_END_DATE, () ->
+                ParserUtil.parseEndDate("09-12-2023", new DonationDate("10-12-2023")));
+    }
+
+    @Test
+    public void parseEndDate_endDateNotBeforeStartDate_returnsDonationDate() throws Exception {
+        DonationDate startDate = new DonationDate("10-12-2023");
+        assertEquals(startDate, ParserUtil.parseEndDate(" 10-12-2023 ", startDate));
+        assertEquals(new DonationDate("11-12-2023"), ParserUtil.parseEndDate("11-12-2023", startDate));
+    }
+
+    @Test
+    public void parseBloodTypeKinds_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseBloodTypeKinds(List.of("O+", "C+")));
+    }
+
+    @Test
+    public void parseBloodTypeKinds_validValues_returnsBloodTypeKinds() throws Exception {
+        assertEquals(EnumSet.of(BloodType.Kind.O_POSITIVE, BloodType.Kind.AB_NEGATIVE),
+                ParserUtil.parseBloodTypeKinds(List.of("O+", "AB-", "O+")));
+    }
+
     @Test
     public void parseBloodVolume_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseBloodVolume((String) null));
@@ -0,0 +1,60 @@
+package bloodnet.logic.parser;
+
+import static bloodnet.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static bloodnet.logic.Messages.MESSAGE_START_DATE_AFTER_END_DATE;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static bloodnet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static bloodnet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.logic.Messages;
+import bloodnet.logic.commands.StatsCommand;
+import bloodnet.model.donationrecord.DonationDate;
+import bloodnet.model.person.BloodType;
+
+public class StatsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.getMessageUsage());
+
+    private final StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no dates
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+
+        // no start date
+        assertParseFailure(parser, " t/31-10-2025 b/O-", MESSAGE_INVALID_FORMAT);
+
+        // preamble present
+        assertParseFailure(parser, " O- f/01-10-2025 t/31-10-2025", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " f/01-10-2025 t/32-10-2025", DonationDate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " f/01-10-2025 t/31-10-2025 b/O", BloodType.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " f/31-10-2025 t/01-10-2025", MESSAGE_START_DATE_AFTER_END_DATE);
+        assertParseFailure(parser, " f/01-10-2025 t/30-10-2025 t/31-10-2025",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_END_DATE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsStatsCommand() {
+        DonationDate startDate = new DonationDate("01-10-2025");
+        DonationDate endDate = new DonationDate("31-10-2025");
+
+        // no blood types
+        assertParseSuccess(parser, " f/01-10-2025 t/31-10-2025",
+                new StatsCommand(startDate, endDate, EnumSet.noneOf(BloodType.Kind.class)));
+
+        // multiple blood types
+        assertParseSuccess(parser, " t/31-10-2025 f/01-10-2025 b/o- b/O-  b/AB+",
+                new StatsCommand(startDate, endDate,
+                        EnumSet.of(BloodType.Kind.O_NEGATIVE, BloodType.Kind.AB_POSITIVE)));
+    }
+}
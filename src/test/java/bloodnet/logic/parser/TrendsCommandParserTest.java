@@ -0,0 +1,59 @@
+package bloodnet.logic.parser;
+
+import static bloodnet.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static bloodnet.logic.Messages.MESSAGE_START_DATE_AFTER_END_DATE;
+import static bloodnet.logic.parser.CliSyntax.PREFIX_PERIOD_LENGTH;
+import static bloodnet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static bloodnet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static bloodnet.logic.parser.ParserUtil.MESSAGE_INVALID_PERIOD_LENGTH;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.logic.Messages;
+import bloodnet.logic.commands.TrendsCommand;
+import bloodnet.model.donationrecord.DonationDate;
+
+public class TrendsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, TrendsCommand.getMessageUsage());
+
+    private final TrendsCommandParser parser = new TrendsCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no dates
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+
+        // no end date
+        assertParseFailure(parser, " f/01-01-2025 l/30", MESSAGE_INVALID_FORMAT);
+
+        // preamble present
+        assertParseFailure(parser, " 30 f/01-01-2025 t/31-12-2025", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " f/01-01-2025 t/32-12-2025", DonationDate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " f/31-12-2025 t/01-01-2025", MESSAGE_START_DATE_AFTER_END_DATE);
+        assertParseFailure(parser, " f/01-01-2025 t/31-12-2025 l/0", MESSAGE_INVALID_PERIOD_LENGTH);
+        assertParseFailure(parser, " f/01-01-2025 t/31-12-2025 l/-7", MESSAGE_INVALID_PERIOD_LENGTH);
+        assertParseFailure(parser, " f/01-01-2025 t/31-12-2025 l/a week", MESSAGE_INVALID_PERIOD_LENGTH);
+        assertParseFailure(parser, " f/01-01-2025 t/31-12-2025 l/7 l/30",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_PERIOD_LENGTH));
+    }
+
+    @Test
+    public void parse_validArgs_returnsTrendsCommand() {
+        DonationDate startDate = new DonationDate("01-01-2025");
+        DonationDate endDate = new DonationDate("31-12-2025");
+
+        // no period length
+        assertParseSuccess(parser, " f/01-01-2025 t/31-12-2025",
+                new TrendsCommand(startDate, endDate, TrendsCommand.DEFAULT_PERIOD_LENGTH));
+
+        // period length, in any order
+        assertParseSuccess(parser, " l/ 7  t/31-12-2025 f/01-01-2025",
+                new TrendsCommand(startDate, endDate, 7));
+    }
+}
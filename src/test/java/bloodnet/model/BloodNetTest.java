@@ -3,23 +3,42 @@ package bloodnet.model;
 import static bloodnet.logic.commands.CommandTestUtil.VALID_BLOOD_TYPE_BOB;
 import static bloodnet.logic.commands.CommandTestUtil.VALID_DATE_OF_BIRTH_BOB;
 import static bloodnet.testutil.Assert.assertThrows;
+import static bloodnet.testutil.TypicalDonationRecords.ALICE_DONATION_RECORD;
+import static bloodnet.testutil.TypicalDonationRecords.ALICE_DONATION_RECORDS;
 import static bloodnet.testutil.TypicalPersons.ALICE;
 import static bloodnet.testutil.TypicalPersons.getTypicalBloodNet;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
+import bloodnet.model.donationrecord.DonationColumns;
 import bloodnet.model.donationrecord.DonationRecord;
+import bloodnet.model.donationrecord.exceptions.DuplicateDonationRecordException;
+import bloodnet.model.person.AgeRange;
+import bloodnet.model.person.BloodType;
+import bloodnet.model.person.Email;
 import bloodnet.model.person.Person;
+import bloodnet.model.person.Phone;
 import bloodnet.model.person.exceptions.DuplicatePersonException;
+import bloodnet.testutil.DonationRecordBuilder;
 import bloodnet.testutil.PersonBuilder;
+import bloodnet.testutil.TypicalDonationRecords;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -57,6 +76,16 @@ public class BloodNetTest {
         assertThrows(DuplicatePersonException.class, () -> bloodNet.resetData(newData));
     }
 
+    @Test
+    public void setData_withDuplicateDonationRecords_dataUnchanged() {
+        bloodNet.resetData(getTypicalBloodNet());
+        List<DonationRecord> newDonationRecords = List.of(ALICE_DONATION_RECORD, ALICE_DONATION_RECORD);
+
+        assertThrows(DuplicateDonationRecordException.class, () -> bloodNet.setData(List.of(ALICE),
+                newDonationRecords));
+        assertEquals(getTypicalBloodNet(), bloodNet);
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> bloodNet.hasPerson(null));
@@ -67,6 +96,90 @@ public class BloodNetTest {
         assertFalse(bloodNet.hasPerson(ALICE));
     }
 
+    @Test
+    public void addPerson_personWithoutId_idAssigned() {
+        Person person = new PersonBuilder().withId(null).build();
+        bloodNet.addPerson(person);
+        assertNotNull(person.getId());
+        assertEquals(Optional.of(person), bloodNet.getPersonById(person.getId()));
+    }
+
+    @Test
+    public void setPerson_editedPersonWithoutId_keepsIdOfTarget() {
+        bloodNet.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withId(null).withPhone("91234567").build();
+        bloodNet.setPerson(ALICE, editedAlice);
+        assertEquals(ALICE.getId(), editedAlice.getId());
+        assertEquals(Optional.of(editedAlice), bloodNet.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void addDonationRecord_donationRecordWithoutId_idAssigned() {
+        bloodNet.addPerson(ALICE);
+        DonationRecord donationRecord = new DonationRecordBuilder().build();
+        bloodNet.addDonationRecord(donationRecord);
+        assertNotNull(donationRecord.getId());
+        assertEquals(Optional.of(donationRecord), bloodNet.getDonationRecordById(donationRecord.getId()));
+    }
+
+    @Test
+    public void getVersion_changesOnlyWhenDataChanges() {
+        long version = bloodNet.getVersion();
+        bloodNet.hasPerson(ALICE);
+        bloodNet.getPersonsWithBloodType(BloodType.Kind.A_POSITIVE);
+        assertEquals(version, bloodNet.getVersion());
+
+        bloodNet.addPerson(ALICE);
+        assertNotEquals(version, bloodNet.getVersion());
+
+        version = bloodNet.getVersion();
+        bloodNet.addDonationRecord(ALICE_DONATION_RECORD);
+        assertNotEquals(version, bloodNet.getVersion());
+
+        version = bloodNet.getVersion();
+        bloodNet.removeDonationRecord(ALICE_DONATION_RECORD);
+        assertNotEquals(version, bloodNet.getVersion());
+    }
+
+    @Test
+    public void getChangesSince_changesMade_changesInOrder() {
+        bloodNet.addPerson(ALICE);
+        long version = bloodNet.getVersion();
+        bloodNet.addDonationRecord(ALICE_DONATION_RECORD);
+        bloodNet.removeDonationRecord(ALICE_DONATION_RECORD);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        bloodNet.setPerson(ALICE, editedAlice);
+
+        List<BloodNetChange> changes = bloodNet.getChangesSince(version).get();
+        assertEquals(List.of(BloodNetChange.Target.DONATION_RECORD, BloodNetChange.Target.DONATION_RECORD,
+                BloodNetChange.Target.PERSON), changes.stream().map(BloodNetChange::getTarget).toList());
+        assertEquals(List.of(ALICE_DONATION_RECORD.getId(), ALICE_DONATION_RECORD.getId(), ALICE.getId()),
+                changes.stream().map(BloodNetChange::getId).toList());
+
+        assertEquals(Optional.of(List.of()), bloodNet.getChangesSince(bloodNet.getVersion()));
+    }
+
+    @Test
+    public void getChangesSince_copy_sameVersionAndChangesRecordedFromThere() {
+        bloodNet.addPerson(ALICE);
+        BloodNet copy = new BloodNet(bloodNet);
+        assertEquals(bloodNet.getVersion(), copy.getVersion());
+
+        copy.removePerson(ALICE);
+        assertEquals(List.of(ALICE.getId()), copy.getChangesSince(bloodNet.getVersion()).get().stream()
+                .map(BloodNetChange::getId).toList());
+    }
+
+    @Test
+    public void getChangesSince_unknownVersion_returnsEmpty() {
+        long version = bloodNet.getVersion();
+        bloodNet.setPersons(List.of(ALICE));
+        assertFalse(bloodNet.getChangesSince(version).isPresent());
+
+        // a version of another bloodnet
+        assertFalse(bloodNet.getChangesSince(new BloodNet().getVersion()).isPresent());
+    }
+
     @Test
     public void hasPerson_personInBloodNet_returnsTrue() {
         bloodNet.addPerson(ALICE);
@@ -82,6 +195,117 @@ public class BloodNetTest {
         assertTrue(bloodNet.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonById_personInBloodNet_returnsPerson() {
+        bloodNet.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), bloodNet.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void getPersonById_removedPerson_returnsEmpty() {
+        bloodNet.addPerson(ALICE);
+        bloodNet.removePerson(ALICE);
+        assertEquals(Optional.empty(), bloodNet.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void getPersonById_afterResetData_returnsPerson() {
+        bloodNet.resetData(getTypicalBloodNet());
+        assertEquals(Optional.of(ALICE), bloodNet.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void getDonationRecordById_donationRecordInBloodNet_returnsDonationRecord() {
+        bloodNet.addPerson(ALICE);
+        bloodNet.addDonationRecord(ALICE_DONATION_RECORD);
+        assertEquals(Optional.of(ALICE_DONATION_RECORD), bloodNet.getDonationRecordById(ALICE_DONATION_RECORD.getId()));
+    }
+
+    @Test
+    public void hasDonationRecordFor_addAndRemoveDonationRecords_tracksDonationRecords() {
+        bloodNet.addPerson(ALICE);
+        assertFalse(bloodNet.hasDonationRecordFor(ALICE));
+
+        bloodNet.addDonationRecord(ALICE_DONATION_RECORDS.get(0));
+        bloodNet.addDonationRecord(ALICE_DONATION_RECORDS.get(1));
+        assertTrue(bloodNet.hasDonationRecordFor(ALICE));
+
+        bloodNet.removeDonationRecord(ALICE_DONATION_RECORDS.get(0));
+        assertTrue(bloodNet.hasDonationRecordFor(ALICE));
+        bloodNet.removeDonationRecord(ALICE_DONATION_RECORDS.get(1));
+        assertFalse(bloodNet.hasDonationRecordFor(ALICE));
+    }
+
+    @Test
+    public void hasDonationRecordFor_personWithoutId_returnsFalse() {
+        assertFalse(bloodNet.hasDonationRecordFor(new PersonBuilder(ALICE).withId(null).build()));
+    }
+
+    @Test
+    public void getDonationTimeline_personWithDonationRecords_returnsRecordsInDateOrder() {
+        bloodNet.addPerson(ALICE);
+        bloodNet.addDonationRecord(ALICE_DONATION_RECORDS.get(1));
+        bloodNet.addDonationRecord(ALICE_DONATION_RECORDS.get(0));
+        assertEquals(ALICE_DONATION_RECORDS,
+                List.copyOf(bloodNet.getDonationTimeline(ALICE.getId()).values()));
+    }
+
+    @Test
+    public void getPersonsWithBloodType_personEdited_movesPersonToNewBloodType() {
+        bloodNet.addPerson(ALICE);
+        BloodType.Kind aliceBloodType = ALICE.getBloodType().getKind();
+        assertEquals(Set.of(ALICE), bloodNet.getPersonsWithBloodType(aliceBloodType));
+
+        Person editedAlice = new PersonBuilder(ALICE).withBloodType(VALID_BLOOD_TYPE_BOB).build();
+        bloodNet.setPerson(ALICE, editedAlice);
+        assertTrue(bloodNet.getPersonsWithBloodType(aliceBloodType).isEmpty());
+        assertEquals(Set.of(editedAlice), bloodNet.getPersonsWithBloodType(editedAlice.getBloodType().getKind()));
+    }
+
+    @Test
+    public void getPersonsInAgeRange_personsInBloodNet_returnsPersonsWithinAgeRange() {
+        bloodNet.addPerson(ALICE);
+        AgeRange ageRange = new AgeRange("25-25");
+
+        // day before the 25th birthday of Alice
+        assertTrue(bloodNet.getPersonsInAgeRange(ageRange, LocalDate.of(2025, 3, 16)).isEmpty());
+
+        // 25th birthday of Alice
+        assertEquals(Set.of(ALICE), bloodNet.getPersonsInAgeRange(ageRange, LocalDate.of(2025, 3, 17)));
+
+        // 26th birthday of Alice
+        assertTrue(bloodNet.getPersonsInAgeRange(ageRange, LocalDate.of(2026, 3, 17)).isEmpty());
+
+        bloodNet.removePerson(ALICE);
+        assertTrue(bloodNet.getPersonsInAgeRange(ageRange, LocalDate.of(2025, 3, 17)).isEmpty());
+    }
+
+    @Test
+    public void getInventoryTotals_donationRecordsAndDonorsChanged_updatesTotals() {
+        BloodNet typicalBloodNet = TypicalDonationRecords.getTypicalBloodNet();
+        BloodType.Kind aliceBloodType = ALICE.getBloodType().getKind();
+        LocalDate firstDayOf2025 = LocalDate.of(2025, 1, 1);
+        LocalDate lastDayOf2025 = LocalDate.of(2025, 12, 31);
+        assertEquals(new InventoryTotals(2, 850),
+                typicalBloodNet.getInventoryTotals(aliceBloodType, firstDayOf2025, lastDayOf2025));
+
+        typicalBloodNet.removeDonationRecord(ALICE_DONATION_RECORD);
+        assertEquals(new InventoryTotals(1, 450),
+                typicalBloodNet.getInventoryTotals(aliceBloodType, firstDayOf2025, lastDayOf2025));
+
+        // the donations of an edited donor move to their new blood type
+        Person editedAlice = new PersonBuilder(ALICE).withBloodType(VALID_BLOOD_TYPE_BOB).build();
+        typicalBloodNet.setPerson(ALICE, editedAlice);
+        assertEquals(InventoryTotals.NONE,
+                typicalBloodNet.getInventoryTotals(aliceBloodType, firstDayOf2025, lastDayOf2025));
+        assertEquals(new InventoryTotals(1, 450), typicalBloodNet.getInventoryTotals(
+                editedAlice.getBloodType().getKind(), firstDayOf2025, lastDayOf2025));
+
+        // copies have the same totals
+        assertEquals(new InventoryTotals(1, 450), new BloodNet(typicalBloodNet).getInventoryTotals(
+                editedAlice.getBloodType().getKind(), firstDayOf2025, lastDayOf2025));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> bloodNet.getPersonList().remove(0));
@@ -109,6 +333,16 @@ public class BloodNetTest {
             this.donationRecords.setAll(donationRecords);
         }
 
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public Optional<List<BloodNetChange>> getChangesSince(long version) {
+            return Optional.empty();
+        }
+
         @Override
         public ObservableList<Person> getPersonList() {
             return persons;
@@ -118,6 +352,79 @@ public class BloodNetTest {
         public ObservableList<DonationRecord> getDonationRecordList() {
             return donationRecords;
         }
+
+        @Override
+        public Optional<Person> getPersonById(UUID id) {
+            return persons.stream().filter(person -> id.equals(person.getId())).findFirst();
+        }
+
+        @Override
+        public Optional<DonationRecord> getDonationRecordById(UUID id) {
+            return donationRecords.stream().filter(record -> id.equals(record.getId())).findFirst();
+        }
+
+        @Override
+        public NavigableMap<LocalDate, DonationRecord> getDonationTimeline(UUID personId) {
+            NavigableMap<LocalDate, DonationRecord> timeline = new TreeMap<>();
+            donationRecords.stream().filter(record -> personId.equals(record.getPersonId()))
+                    .forEach(record -> timeline.put(record.getDonationDate().getValue(), record));
+            return timeline;
+        }
+
+        @Override
+        public boolean isEligibleToDonate(Person person, LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithBloodType(BloodType.Kind kind) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsByNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Person, Integer> findPersonsByPartialName(String partialName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsBySimilarName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsInAgeRange(AgeRange ageRange, LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<DonationRecord> getDonationRecordsBetween(LocalDate startDate, LocalDate endDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public InventoryTotals getInventoryTotals(BloodType.Kind kind, LocalDate startDate, LocalDate endDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DonationColumns getDonationColumns() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
@@ -0,0 +1,117 @@
+package bloodnet.model;
+
+import static bloodnet.testutil.Assert.assertThrows;
+import static java.time.format.ResolverStyle.STRICT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.model.donationrecord.DonationRecord;
+import bloodnet.model.person.Person;
+import bloodnet.testutil.DonationRecordBuilder;
+import bloodnet.testutil.PersonBuilder;
+
+public class EligibilityIndexTest {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu")
+            .withResolverStyle(STRICT);
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private final BloodNet bloodNet = new BloodNet();
+    private int nextPhone = 90000000;
+
+    @Test
+    public void isEligible_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> bloodNet.isEligibleToDonate(null, TODAY));
+    }
+
+    @Test
+    public void isEligible_firstTimeDonors_onlyDonorsAged16To60Eligible() {
+        Person fifteen = addPerson("Fifteen", TODAY.minusYears(16).plusDays(1));
+        Person sixteen = addPerson("Sixteen", TODAY.minusYears(16));
+        Person sixty = addPerson("Sixty", TODAY.minusYears(61).plusDays(1));
+        Person sixtyOne = addPerson("Sixty One", TODAY.minusYears(61));
+
+        assertTrue(bloodNet.isEligibleToDonate(sixteen, TODAY));
+        assertTrue(bloodNet.isEligibleToDonate(sixty, TODAY));
+        assertFalse(bloodNet.isEligibleToDonate(fifteen, TODAY));
+        assertFalse(bloodNet.isEligibleToDonate(sixtyOne, TODAY));
+    }
+
+    @Test
+    public void isEligible_donationAddedAndRemoved_updatesEligibility() {
+        Person person = addPerson("Donor", TODAY.minusYears(30));
+        DonationRecord donationRecord = addDonation(person, TODAY.minusDays(83));
+        assertFalse(bloodNet.isEligibleToDonate(person, TODAY));
+        assertTrue(bloodNet.isEligibleToDonate(person, TODAY.plusDays(1)));
+
+        bloodNet.removeDonationRecord(donationRecord);
+        assertTrue(bloodNet.isEligibleToDonate(person, TODAY));
+    }
+
+    @Test
+    public void isEligible_dateOfBirthEdited_updatesEligibility() {
+        Person person = addPerson("Donor", TODAY.minusYears(30));
+        Person editedPerson = new PersonBuilder(person).withDateOfBirth(format(TODAY.minusYears(70))).build();
+        bloodNet.setPerson(person, editedPerson);
+        assertFalse(bloodNet.isEligibleToDonate(editedPerson, TODAY));
+    }
+
+    @Test
+    public void isEligible_nonRecentDonorAged66_returnsFalse() {
+        Person person = addPerson("Donor", TODAY.minusYears(66));
+        addDonation(person, TODAY.minusYears(3));
+        assertFalse(bloodNet.isEligibleToDonate(person, TODAY));
+        assertTrue(bloodNet.isEligibleToDonate(person, TODAY.minusDays(1)));
+    }
+
+    @Test
+    public void isEligible_dateBetweenDonations_checksBothNeighbours() {
+        Person person = addPerson("Donor", TODAY.minusYears(30));
+        addDonation(person, TODAY.minusDays(300));
+        addDonation(person, TODAY.minusDays(100));
+
+        assertTrue(bloodNet.isEligibleToDonate(person, TODAY.minusDays(200)));
+        assertFalse(bloodNet.isEligibleToDonate(person, TODAY.minusDays(150)));
+        assertFalse(bloodNet.isEligibleToDonate(person, TODAY.minusDays(250)));
+    }
+
+    @Test
+    public void isEligible_everyDate_agreesWithValidate() {
+        Person person = addPerson("Donor", TODAY.minusYears(64));
+        addDonation(person, TODAY.minusYears(4));
+        addDonation(person, TODAY.minusYears(4).plusDays(90));
+        addDonation(person, TODAY.minusDays(40));
+
+        for (LocalDate date = TODAY.minusYears(5); !date.isAfter(TODAY); date = date.plusDays(1)) {
+            DonationRecord candidate = new DonationRecordBuilder().withId(null).withPersonId(person.getId())
+                    .withDonationDate(format(date)).build();
+            boolean isValid = candidate.validate(bloodNet).isEmpty();
+            assertEquals(isValid, bloodNet.isEligibleToDonate(person, date), date.toString());
+        }
+    }
+
+    private Person addPerson(String name, LocalDate dateOfBirth) {
+        Person person = new PersonBuilder().withId(UUID.randomUUID()).withName(name)
+                .withPhone(String.valueOf(nextPhone++)).withDateOfBirth(format(dateOfBirth)).build();
+        bloodNet.addPerson(person);
+        return person;
+    }
+
+    private DonationRecord addDonation(Person person, LocalDate donationDate) {
+        DonationRecord donationRecord = new DonationRecordBuilder().withId(UUID.randomUUID())
+                .withPersonId(person.getId()).withDonationDate(format(donationDate)).build();
+        bloodNet.addDonationRecord(donationRecord);
+        return donationRecord;
+    }
+
+    private static String format(LocalDate date) {
+        return date.format(FORMATTER);
+    }
+}
@@ -0,0 +1,98 @@
+package bloodnet.model;
+
+import static bloodnet.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.model.donationrecord.BloodVolume;
+import bloodnet.model.donationrecord.DonationDate;
+import bloodnet.model.donationrecord.DonationRecord;
+import bloodnet.model.person.BloodType;
+
+public class InventoryIndexTest {
+
+    private static final UUID PERSON_ID = UUID.fromString("a7460411-cc1f-4b17-a75c-3009a766679a");
+    private static final LocalDate FIRST_DAY_OF_2025 = LocalDate.of(2025, 1, 1);
+    private static final LocalDate LAST_DAY_OF_2025 = LocalDate.of(2025, 12, 31);
+
+    private final InventoryIndex inventoryIndex = new InventoryIndex();
+
+    @Test
+    public void getTotals_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> inventoryIndex.getTotals(null,
+                FIRST_DAY_OF_2025, LAST_DAY_OF_2025));
+        assertThrows(NullPointerException.class, () -> inventoryIndex.getTotals(BloodType.Kind.O_NEGATIVE,
+                null, LAST_DAY_OF_2025));
+    }
+
+    @Test
+    public void getTotals_noDonations_returnsNone() {
+        assertEquals(InventoryTotals.NONE,
+                inventoryIndex.getTotals(BloodType.Kind.O_NEGATIVE, FIRST_DAY_OF_2025, LAST_DAY_OF_2025));
+    }
+
+    @Test
+    public void getTotals_donationsAdded_countsDonationsInRangeInclusive() {
+        inventoryIndex.add(BloodType.Kind.O_NEGATIVE, createDonationRecord("01-03-2025", "400"));
+        inventoryIndex.add(BloodType.Kind.O_NEGATIVE, createDonationRecord("31-03-2025", "450"));
+        inventoryIndex.add(BloodType.Kind.O_NEGATIVE, createDonationRecord("01-04-2025", "300"));
+        inventoryIndex.add(BloodType.Kind.A_POSITIVE, createDonationRecord("15-03-2025", "499"));
+
+        assertEquals(new InventoryTotals(2, 850), inventoryIndex.getTotals(BloodType.Kind.O_NEGATIVE,
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)));
+        assertEquals(new InventoryTotals(3, 1150), inventoryIndex.getTotals(BloodType.Kind.O_NEGATIVE,
+                FIRST_DAY_OF_2025, LAST_DAY_OF_2025));
+        assertEquals(new InventoryTotals(1, 499), inventoryIndex.getTotals(BloodType.Kind.A_POSITIVE,
+                FIRST_DAY_OF_2025, LAST_DAY_OF_2025));
+
+        // single day
+        assertEquals(new InventoryTotals(1, 300), inventoryIndex.getTotals(BloodType.Kind.O_NEGATIVE,
+                LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 1)));
+
+        // start date after end date
+        assertEquals(InventoryTotals.NONE, inventoryIndex.getTotals(BloodType.Kind.O_NEGATIVE,
+                LAST_DAY_OF_2025, FIRST_DAY_OF_2025));
+    }
+
+    @Test
+    public void getTotals_donationsFarApart_countsEveryDonation() {
+        inventoryIndex.add(BloodType.Kind.B_POSITIVE, createDonationRecord("15-06-2025", "400"));
+        inventoryIndex.add(BloodType.Kind.B_POSITIVE, createDonationRecord("15-06-1995", "350"));
+        inventoryIndex.add(BloodType.Kind.B_POSITIVE, createDonationRecord("15-06-2015", "300"));
+        inventoryIndex.add(BloodType.Kind.B_POSITIVE, createDonationRecord("14-06-1995", "250"));
+
+        assertEquals(new InventoryTotals(4, 1300), inventoryIndex.getTotals(BloodType.Kind.B_POSITIVE,
+                LocalDate.of(1990, 1, 1), LAST_DAY_OF_2025));
+        assertEquals(new InventoryTotals(1, 350), inventoryIndex.getTotals(BloodType.Kind.B_POSITIVE,
+                LocalDate.of(1995, 6, 15), LocalDate.of(2015, 6, 14)));
+        assertEquals(new InventoryTotals(2, 700), inventoryIndex.getTotals(BloodType.Kind.B_POSITIVE,
+                LocalDate.of(2015, 6, 15), LocalDate.of(2100, 1, 1)));
+    }
+
+    @Test
+    public void remove_donationAdded_removesDonationFromTotals() {
+        DonationRecord donationRecord = createDonationRecord("01-03-2025", "400");
+        inventoryIndex.add(BloodType.Kind.AB_NEGATIVE, donationRecord);
+        inventoryIndex.add(BloodType.Kind.AB_NEGATIVE, createDonationRecord("01-06-2025", "450"));
+
+        inventoryIndex.remove(BloodType.Kind.AB_NEGATIVE, donationRecord);
+        assertEquals(new InventoryTotals(1, 450), inventoryIndex.getTotals(BloodType.Kind.AB_NEGATIVE,
+                FIRST_DAY_OF_2025, LAST_DAY_OF_2025));
+    }
+
+    @Test
+    public void clear_donationsAdded_removesEveryDonation() {
+        inventoryIndex.add(BloodType.Kind.AB_NEGATIVE, createDonationRecord("01-03-2025", "400"));
+        inventoryIndex.clear();
+        assertEquals(InventoryTotals.NONE, inventoryIndex.getTotals(BloodType.Kind.AB_NEGATIVE,
+                FIRST_DAY_OF_2025, LAST_DAY_OF_2025));
+    }
+
+    private static DonationRecord createDonationRecord(String donationDate, String bloodVolume) {
+        return new DonationRecord(null, PERSON_ID, new DonationDate(donationDate), new BloodVolume(bloodVolume));
+    }
+}
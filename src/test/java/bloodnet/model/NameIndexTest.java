@@ -0,0 +1,63 @@
+package bloodnet.model;
+
+import static bloodnet.testutil.Assert.assertThrows;
+import static bloodnet.testutil.TypicalPersons.ALICE;
+import static bloodnet.testutil.TypicalPersons.BENSON;
+import static bloodnet.testutil.TypicalPersons.CARL;
+import static bloodnet.testutil.TypicalPersons.DANIEL;
+import static bloodnet.testutil.TypicalPersons.ELLE;
+import static bloodnet.testutil.TypicalPersons.FIONA;
+import static bloodnet.testutil.TypicalPersons.getTypicalPersons;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import bloodnet.model.person.Person;
+import bloodnet.testutil.PersonBuilder;
+
+public class NameIndexTest {
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @BeforeEach
+    public void setUp() {
+        getTypicalPersons().forEach(nameIndex::add);
+    }
+
+    @Test
+    public void findByKeywords_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.findByKeywords(null));
+    }
+
+    @Test
+    public void findByKeywords_blankKeywords_returnsEmptySet() {
+        assertTrue(nameIndex.findByKeywords(Collections.emptyList()).isEmpty());
+        assertTrue(nameIndex.findByKeywords(List.of(" ")).isEmpty());
+    }
+
+    @Test
+    public void findByKeywords_wholeWords_returnsUnionOfMatches() {
+        assertEquals(Set.of(CARL, ELLE, FIONA), nameIndex.findByKeywords(List.of("Kurz", "Elle", "Kunz")));
+    }
+
+    @Test
+    public void findByKeywords_partOfWordInDifferentCase_returnsMatches() {
+        assertEquals(Set.of(BENSON, DANIEL, ELLE), nameIndex.findByKeywords(List.of("mE")));
+        assertEquals(Set.of(ALICE), nameIndex.findByKeywords(List.of("PAUL")));
+    }
+
+    @Test
+    public void remove_editedName_updatesMatches() {
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Lim").build();
+        nameIndex.remove(CARL);
+        nameIndex.add(editedCarl);
+        assertTrue(nameIndex.findByKeywords(List.of("Kurz")).isEmpty());
+        assertEquals(Set.of(editedCarl), nameIndex.findByKeywords(List.of("lim")));
+    }
+}
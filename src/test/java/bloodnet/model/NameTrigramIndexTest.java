@@ -0,0 +1,67 @@
+package bloodnet.model;
+
+import static bloodnet.testutil.Assert.assertThrows;
+import static bloodnet.testutil.TypicalPersons.ALICE;
+import static bloodnet.testutil.TypicalPersons.BENSON;
+import static bloodnet.testutil.TypicalPersons.DANIEL;
+import static bloodnet.testutil.TypicalPersons.ELLE;
+import static bloodnet.testutil.TypicalPersons.getTypicalPersons;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import bloodnet.model.person.Person;
+import bloodnet.testutil.PersonBuilder;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex nameTrigramIndex = new NameTrigramIndex();
+
+    @BeforeEach
+    public void setUp() {
+        getTypicalPersons().forEach(nameTrigramIndex::add);
+    }
+
+    @Test
+    public void findByPartialName_nullPartialName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameTrigramIndex.findByPartialName(null));
+    }
+
+    @Test
+    public void findByPartialName_blankPartialName_returnsEmptyMap() {
+        assertTrue(nameTrigramIndex.findByPartialName("  ").isEmpty());
+    }
+
+    @Test
+    public void findByPartialName_acrossWords_returnsMatch() {
+        assertEquals(Map.of(ALICE, 6), nameTrigramIndex.findByPartialName("LICE  PAU"));
+    }
+
+    @Test
+    public void findByPartialName_shortPartialName_returnsNamesContainingIt() {
+        assertEquals(Set.of(BENSON, DANIEL, ELLE), nameTrigramIndex.findByPartialName("me").keySet());
+    }
+
+    @Test
+    public void findByPartialName_partlyMatchingPartialName_returnsNumberOfSharedTrigrams() {
+        // "Daniel Meier" contains all of "el meier", "Benson Meier" only contains " meier"
+        assertEquals(Map.of(DANIEL, 6, BENSON, 4), nameTrigramIndex.findByPartialName("el meier"));
+
+        // a misspelling still matches most of the trigrams
+        assertEquals(Map.of(ELLE, 5), nameTrigramIndex.findByPartialName("elle mayer"));
+    }
+
+    @Test
+    public void remove_editedName_updatesMatches() {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        nameTrigramIndex.remove(ALICE);
+        nameTrigramIndex.add(editedAlice);
+        assertTrue(nameTrigramIndex.findByPartialName("pauline").isEmpty());
+        assertEquals(Set.of(editedAlice), nameTrigramIndex.findByPartialName("licia").keySet());
+    }
+}
@@ -0,0 +1,67 @@
+package bloodnet.model;
+
+import static bloodnet.testutil.Assert.assertThrows;
+import static bloodnet.testutil.TypicalPersons.BENSON;
+import static bloodnet.testutil.TypicalPersons.CARL;
+import static bloodnet.testutil.TypicalPersons.DANIEL;
+import static bloodnet.testutil.TypicalPersons.ELLE;
+import static bloodnet.testutil.TypicalPersons.getTypicalPersons;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import bloodnet.model.person.Person;
+import bloodnet.testutil.PersonBuilder;
+
+public class PhoneticNameIndexTest {
+
+    private final PhoneticNameIndex phoneticNameIndex = new PhoneticNameIndex();
+
+    @BeforeEach
+    public void setUp() {
+        getTypicalPersons().forEach(phoneticNameIndex::add);
+    }
+
+    @Test
+    public void findByKeywords_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> phoneticNameIndex.findByKeywords(null));
+    }
+
+    @Test
+    public void findByKeywords_keywordsWithoutLetters_returnsEmptySet() {
+        assertTrue(phoneticNameIndex.findByKeywords(Collections.emptyList()).isEmpty());
+        assertTrue(phoneticNameIndex.findByKeywords(List.of(" ", "42")).isEmpty());
+    }
+
+    @Test
+    public void findByKeywords_soundsAlike_returnsMatches() {
+        // Meier and Meyer sound alike
+        assertEquals(Set.of(BENSON, DANIEL, ELLE), phoneticNameIndex.findByKeywords(List.of("mayer")));
+        assertEquals(Set.of(CARL), phoneticNameIndex.findByKeywords(List.of("KURS")));
+    }
+
+    @Test
+    public void findByKeywords_soundsDifferent_returnsEmptySet() {
+        // the first letter of a word is kept as it is, so Karl does not match Carl
+        assertTrue(phoneticNameIndex.findByKeywords(List.of("Karl")).isEmpty());
+        assertTrue(phoneticNameIndex.findByKeywords(List.of("Tan")).isEmpty());
+    }
+
+    @Test
+    public void remove_editedName_updatesMatches() {
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Tan").build();
+        phoneticNameIndex.remove(CARL);
+        phoneticNameIndex.add(editedCarl);
+        assertTrue(phoneticNameIndex.findByKeywords(List.of("Kurz")).isEmpty());
+        assertEquals(Set.of(editedCarl), phoneticNameIndex.findByKeywords(List.of("Tann")));
+
+        phoneticNameIndex.clear();
+        assertTrue(phoneticNameIndex.findByKeywords(List.of("Carl")).isEmpty());
+    }
+}
@@ -1,7 +1,9 @@
 package bloodnet.model.donationrecord;
 
 import static bloodnet.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -59,4 +61,11 @@ public class BloodVolumeTest {
         // different values -> returns false
         assertFalse(bloodVolume.equals(new BloodVolume("430")));
     }
+
+    @Test
+    public void of_sameVolume_returnsSharedInstance() {
+        assertSame(BloodVolume.of("450"), BloodVolume.of("450"));
+        assertEquals(new BloodVolume("499"), BloodVolume.of("499"));
+        assertThrows(IllegalArgumentException.class, () -> BloodVolume.of("500"));
+    }
 }
@@ -0,0 +1,81 @@
+package bloodnet.model.donationrecord;
+
+import static bloodnet.testutil.Assert.assertThrows;
+import static bloodnet.testutil.TypicalDonationRecords.ALICE_DONATION_RECORDS;
+import static bloodnet.testutil.TypicalDonationRecords.BENSON_DONATION_RECORDS;
+import static bloodnet.testutil.TypicalDonationRecords.getTypicalDonationRecords;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import bloodnet.testutil.DonationRecordBuilder;
+
+public class DonationColumnsTest {
+
+    private static final LocalDate FIRST_DAY_OF_2025 = LocalDate.of(2025, 1, 1);
+    private static final LocalDate LAST_DAY_OF_2025 = LocalDate.of(2025, 12, 31);
+    private static final UUID ALICE_ID = ALICE_DONATION_RECORDS.get(0).getPersonId();
+    private static final UUID BENSON_ID = BENSON_DONATION_RECORDS.get(0).getPersonId();
+
+    private final DonationColumns donationColumns = new DonationColumns();
+
+    @BeforeEach
+    public void setUp() {
+        // 15-01-2025 400 ml (Alice), 15-05-2025 450 ml (Alice), 21-03-2025 400 ml (Benson), 25-07-2025 400 ml (Benson)
+        donationColumns.setAll(getTypicalDonationRecords());
+    }
+
+    @Test
+    public void getDonationCount_dateRange_countsDonationsInRangeInclusive() {
+        assertEquals(4, donationColumns.getDonationCount(FIRST_DAY_OF_2025, LAST_DAY_OF_2025));
+        assertEquals(2, donationColumns.getDonationCount(LocalDate.of(2025, 1, 15), LocalDate.of(2025, 3, 21)));
+        assertEquals(0, donationColumns.getDonationCount(LAST_DAY_OF_2025, FIRST_DAY_OF_2025));
+    }
+
+    @Test
+    public void getTotalBloodVolume_dateRange_sumsDonationsInRangeInclusive() {
+        assertEquals(1650, donationColumns.getTotalBloodVolume(FIRST_DAY_OF_2025, LAST_DAY_OF_2025));
+        assertEquals(850, donationColumns.getTotalBloodVolume(LocalDate.of(2025, 5, 15), LocalDate.of(2025, 7, 25)));
+    }
+
+    @Test
+    public void getDonationCountsPerPeriod_periods_countsDonationsInEachPeriod() {
+        // 30-day periods from 01-01-2025 to 30-07-2025, the last of which is cut short
+        assertArrayEquals(new int[] {1, 0, 1, 0, 1, 0, 1, 0},
+                donationColumns.getDonationCountsPerPeriod(FIRST_DAY_OF_2025, LocalDate.of(2025, 7, 30), 30));
+
+        assertArrayEquals(new int[0],
+                donationColumns.getDonationCountsPerPeriod(LAST_DAY_OF_2025, FIRST_DAY_OF_2025, 30));
+        assertThrows(IllegalArgumentException.class, () ->
+                donationColumns.getDonationCountsPerPeriod(FIRST_DAY_OF_2025, LAST_DAY_OF_2025, 0));
+    }
+
+    @Test
+    public void getDonationCountsByDonor_dateRange_countsDonationsOfEachDonor() {
+        assertEquals(Map.of(ALICE_ID, 2, BENSON_ID, 2),
+                donationColumns.getDonationCountsByDonor(FIRST_DAY_OF_2025, LAST_DAY_OF_2025));
+        assertEquals(Map.of(BENSON_ID, 1),
+                donationColumns.getDonationCountsByDonor(LocalDate.of(2025, 7, 1), LAST_DAY_OF_2025));
+    }
+
+    @Test
+    public void setAndRemove_rows_updatesColumns() {
+        // row 1 is Alice's donation on 15-05-2025
+        donationColumns.set(1, new DonationRecordBuilder(ALICE_DONATION_RECORDS.get(1))
+                .withPersonId(BENSON_ID).withBloodVolume("300").build());
+        assertEquals(1500, donationColumns.getTotalBloodVolume(FIRST_DAY_OF_2025, LAST_DAY_OF_2025));
+        assertEquals(Map.of(ALICE_ID, 1, BENSON_ID, 3),
+                donationColumns.getDonationCountsByDonor(FIRST_DAY_OF_2025, LAST_DAY_OF_2025));
+
+        donationColumns.remove(0);
+        assertEquals(3, donationColumns.size());
+        assertEquals(Map.of(BENSON_ID, 3),
+                donationColumns.getDonationCountsByDonor(FIRST_DAY_OF_2025, LAST_DAY_OF_2025));
+    }
+}
@@ -5,6 +5,7 @@ import static java.time.format.ResolverStyle.STRICT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
@@ -89,4 +90,18 @@ public class DonationDateTest {
         //valid with itself
         assertEquals(donationDate.hashCode(), donationDate.hashCode());
     }
+
+    @Test
+    public void getValue_leapDay_returnsDate() {
+        DonationDate donationDate = new DonationDate("29-02-2024");
+        assertEquals(LocalDate.of(2024, 2, 29), donationDate.getValue());
+        assertEquals("29-02-2024", donationDate.toString());
+    }
+
+    @Test
+    public void of_sameDate_returnsSharedInstance() {
+        assertSame(DonationDate.of("15-01-2025"), DonationDate.of("15-01-2025"));
+        assertEquals(new DonationDate("15-01-2025"), DonationDate.of("15-01-2025"));
+        assertThrows(IllegalArgumentException.class, () -> DonationDate.of("32-01-2025"));
+    }
 }
@@ -0,0 +1,67 @@
+package bloodnet.model.donationrecord;
+
+import static bloodnet.testutil.TypicalDonationRecords.ALICE_DONATION_RECORD;
+import static bloodnet.testutil.TypicalDonationRecords.BENSON_DONATION_RECORD;
+import static bloodnet.testutil.TypicalDonationRecords.CARL_DONATION_RECORD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.testutil.DonationRecordBuilder;
+
+public class IsOneOfDonationRecordsPredicateTest {
+
+    @Test
+    public void equals() {
+        IsOneOfDonationRecordsPredicate firstPredicate =
+                new IsOneOfDonationRecordsPredicate(List.of(ALICE_DONATION_RECORD));
+        IsOneOfDonationRecordsPredicate secondPredicate =
+                new IsOneOfDonationRecordsPredicate(List.of(ALICE_DONATION_RECORD, BENSON_DONATION_RECORD));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new IsOneOfDonationRecordsPredicate(
+                List.of(new DonationRecordBuilder(ALICE_DONATION_RECORD).build()))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different donation records -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_donationRecordGiven_returnsTrue() {
+        IsOneOfDonationRecordsPredicate predicate =
+                new IsOneOfDonationRecordsPredicate(List.of(ALICE_DONATION_RECORD, BENSON_DONATION_RECORD));
+        assertTrue(predicate.test(ALICE_DONATION_RECORD));
+        assertTrue(predicate.test(BENSON_DONATION_RECORD));
+
+        // Same donation record after being edited
+        assertTrue(predicate.test(new DonationRecordBuilder(ALICE_DONATION_RECORD).withBloodVolume("300").build()));
+    }
+
+    @Test
+    public void test_donationRecordNotGiven_returnsFalse() {
+        assertFalse(new IsOneOfDonationRecordsPredicate(List.of()).test(ALICE_DONATION_RECORD));
+        assertFalse(new IsOneOfDonationRecordsPredicate(List.of(ALICE_DONATION_RECORD)).test(CARL_DONATION_RECORD));
+    }
+
+    @Test
+    public void toStringMethod() {
+        IsOneOfDonationRecordsPredicate predicate = new IsOneOfDonationRecordsPredicate(List.of(ALICE_DONATION_RECORD));
+
+        String expected = IsOneOfDonationRecordsPredicate.class.getCanonicalName() + "{ids=["
+                + ALICE_DONATION_RECORD.getId() + "]}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -4,14 +4,20 @@ import static bloodnet.logic.commands.CommandTestUtil.VALID_BLOOD_VOLUME_AMY;
 import static bloodnet.logic.commands.CommandTestUtil.VALID_DONATION_DATE_BOB;
 import static bloodnet.testutil.Assert.assertThrows;
 import static bloodnet.testutil.TypicalDonationRecords.ALICE_DONATION_RECORD;
+import static bloodnet.testutil.TypicalDonationRecords.ALICE_DONATION_RECORDS;
 import static bloodnet.testutil.TypicalDonationRecords.BENSON_DONATION_RECORD;
+import static bloodnet.testutil.TypicalDonationRecords.BENSON_DONATION_RECORDS;
+import static bloodnet.testutil.TypicalDonationRecords.getTypicalDonationRecords;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
@@ -109,6 +115,14 @@ public class UniqueDonationRecordListTest {
         assertEquals(expectedUniqueDonationRecordList, uniqueDonationRecordList);
     }
 
+    @Test
+    public void setDonationRecord_editedDonationRecordHasDifferentIdentity_updatesContains() {
+        uniqueDonationRecordList.add(ALICE_DONATION_RECORD);
+        uniqueDonationRecordList.setDonationRecord(ALICE_DONATION_RECORD, BENSON_DONATION_RECORD);
+        assertFalse(uniqueDonationRecordList.contains(ALICE_DONATION_RECORD));
+        assertTrue(uniqueDonationRecordList.contains(BENSON_DONATION_RECORD));
+    }
+
     @Test
     public void setDonationRecord_editedDonationRecordHasNonUniqueIdentity_throwsDuplicateDonationRecordException() {
         uniqueDonationRecordList.add(ALICE_DONATION_RECORD);
@@ -136,6 +150,33 @@ public class UniqueDonationRecordListTest {
         assertEquals(expectedUniqueDonationRecordList, uniqueDonationRecordList);
     }
 
+    @Test
+    public void remove_existingDonationRecord_allowsReAdding() {
+        uniqueDonationRecordList.add(ALICE_DONATION_RECORD);
+        uniqueDonationRecordList.remove(ALICE_DONATION_RECORD);
+        assertFalse(uniqueDonationRecordList.contains(ALICE_DONATION_RECORD));
+        uniqueDonationRecordList.add(ALICE_DONATION_RECORD);
+        assertTrue(uniqueDonationRecordList.contains(ALICE_DONATION_RECORD));
+    }
+
+    @Test
+    public void removeAndSetDonationRecord_afterEarlierRemovals_actOnCorrectPositions() {
+        List<DonationRecord> donationRecords = getTypicalDonationRecords();
+        uniqueDonationRecordList.setDonationRecords(donationRecords);
+        int last = donationRecords.size() - 1;
+        uniqueDonationRecordList.remove(donationRecords.get(0));
+
+        DonationRecord editedLastDonationRecord = new DonationRecordBuilder(donationRecords.get(last))
+                .withBloodVolume(VALID_BLOOD_VOLUME_AMY)
+                .build();
+        uniqueDonationRecordList.setDonationRecord(donationRecords.get(last), editedLastDonationRecord);
+        uniqueDonationRecordList.remove(donationRecords.get(1));
+
+        List<DonationRecord> expectedDonationRecords = new ArrayList<>(donationRecords.subList(2, last));
+        expectedDonationRecords.add(editedLastDonationRecord);
+        assertEquals(expectedDonationRecords, uniqueDonationRecordList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setDonationRecords_nullUniqueDonationRecordList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueDonationRecordList
@@ -175,6 +216,116 @@ public class UniqueDonationRecordListTest {
                 .setDonationRecords(listWithDuplicateDonationRecords));
     }
 
+    @Test
+    public void findDuplicateGroups_uniqueDonationRecords_returnsEmptyList() {
+        assertTrue(UniqueDonationRecordList.findDuplicateGroups(
+                Arrays.asList(ALICE_DONATION_RECORD, BENSON_DONATION_RECORD)).isEmpty());
+    }
+
+    @Test
+    public void findDuplicateGroups_duplicateDonationRecords_returnsEveryGroup() {
+        DonationRecord editedAlice = new DonationRecordBuilder(ALICE_DONATION_RECORD)
+                .withBloodVolume(VALID_BLOOD_VOLUME_AMY)
+                .build();
+        List<DonationRecord> donationRecords = Arrays.asList(ALICE_DONATION_RECORD, BENSON_DONATION_RECORD,
+                editedAlice);
+        List<List<DonationRecord>> expectedGroups = List.of(Arrays.asList(ALICE_DONATION_RECORD, editedAlice));
+        assertEquals(expectedGroups, UniqueDonationRecordList.findDuplicateGroups(donationRecords));
+    }
+
+    @Test
+    public void getTimeline_personWithoutDonationRecords_returnsEmptyTimeline() {
+        assertTrue(uniqueDonationRecordList.getTimeline(ALICE_DONATION_RECORD.getPersonId()).isEmpty());
+    }
+
+    @Test
+    public void getTimeline_afterEditAndRemove_staysInSync() {
+        uniqueDonationRecordList.add(ALICE_DONATION_RECORDS.get(1));
+        uniqueDonationRecordList.add(ALICE_DONATION_RECORDS.get(0));
+        UUID personId = ALICE_DONATION_RECORD.getPersonId();
+        assertEquals(ALICE_DONATION_RECORDS, List.copyOf(uniqueDonationRecordList.getTimeline(personId).values()));
+
+        DonationRecord editedAlice = new DonationRecordBuilder(ALICE_DONATION_RECORD)
+                .withDonationDate(VALID_DONATION_DATE_BOB)
+                .build();
+        uniqueDonationRecordList.setDonationRecord(ALICE_DONATION_RECORD, editedAlice);
+        assertEquals(editedAlice, uniqueDonationRecordList.getTimeline(personId)
+                .get(editedAlice.getDonationDate().getValue()));
+        assertFalse(uniqueDonationRecordList.getTimeline(personId)
+                .containsKey(ALICE_DONATION_RECORD.getDonationDate().getValue()));
+
+        uniqueDonationRecordList.remove(editedAlice);
+        uniqueDonationRecordList.remove(ALICE_DONATION_RECORDS.get(1));
+        assertTrue(uniqueDonationRecordList.getTimeline(personId).isEmpty());
+    }
+
+    @Test
+    public void getDonationRecordsBetween_dateRange_returnsRecordsInRangeInDateOrder() {
+        uniqueDonationRecordList.setDonationRecords(getTypicalDonationRecords());
+        LocalDate firstDay = ALICE_DONATION_RECORDS.get(0).getDonationDate().getValue();
+        LocalDate lastDay = BENSON_DONATION_RECORDS.get(1).getDonationDate().getValue();
+
+        // both ends inclusive
+        assertEquals(List.of(ALICE_DONATION_RECORDS.get(0), BENSON_DONATION_RECORDS.get(0),
+                ALICE_DONATION_RECORDS.get(1), BENSON_DONATION_RECORDS.get(1)),
+                uniqueDonationRecordList.getDonationRecordsBetween(firstDay, lastDay));
+
+        // single day
+        assertEquals(List.of(ALICE_DONATION_RECORDS.get(0)),
+                uniqueDonationRecordList.getDonationRecordsBetween(firstDay, firstDay));
+
+        // start after end
+        assertTrue(uniqueDonationRecordList.getDonationRecordsBetween(lastDay, firstDay).isEmpty());
+
+        uniqueDonationRecordList.remove(ALICE_DONATION_RECORDS.get(0));
+        assertEquals(List.of(BENSON_DONATION_RECORDS.get(0)),
+                uniqueDonationRecordList.getDonationRecordsBetween(firstDay, firstDay.plusMonths(3)));
+    }
+
+    @Test
+    public void getDonationCount_afterAddEditAndRemove_staysInSync() {
+        UUID personId = ALICE_DONATION_RECORD.getPersonId();
+        assertEquals(0, uniqueDonationRecordList.getDonationCount(personId));
+
+        uniqueDonationRecordList.add(ALICE_DONATION_RECORDS.get(0));
+        uniqueDonationRecordList.add(ALICE_DONATION_RECORDS.get(1));
+        assertEquals(2, uniqueDonationRecordList.getDonationCount(personId));
+
+        DonationRecord editedAlice = new DonationRecordBuilder(ALICE_DONATION_RECORD)
+                .withDonationDate(VALID_DONATION_DATE_BOB)
+                .build();
+        uniqueDonationRecordList.setDonationRecord(ALICE_DONATION_RECORD, editedAlice);
+        assertEquals(2, uniqueDonationRecordList.getDonationCount(personId));
+
+        uniqueDonationRecordList.remove(editedAlice);
+        assertEquals(1, uniqueDonationRecordList.getDonationCount(personId));
+        uniqueDonationRecordList.setDonationRecords(Collections.emptyList());
+        assertEquals(0, uniqueDonationRecordList.getDonationCount(personId));
+    }
+
+    @Test
+    public void getColumns_afterAddEditAndRemove_staysInSync() {
+        LocalDate firstDay = LocalDate.of(2025, 1, 1);
+        LocalDate lastDay = LocalDate.of(2025, 12, 31);
+        uniqueDonationRecordList.add(ALICE_DONATION_RECORDS.get(0));
+        DonationColumns columns = uniqueDonationRecordList.getColumns();
+        assertEquals(400, columns.getTotalBloodVolume(firstDay, lastDay));
+
+        uniqueDonationRecordList.add(BENSON_DONATION_RECORD);
+        DonationRecord editedAlice = new DonationRecordBuilder(ALICE_DONATION_RECORD)
+                .withBloodVolume(VALID_BLOOD_VOLUME_AMY)
+                .build();
+        uniqueDonationRecordList.setDonationRecord(ALICE_DONATION_RECORD, editedAlice);
+        assertEquals(400 + Integer.parseInt(VALID_BLOOD_VOLUME_AMY), columns.getTotalBloodVolume(firstDay, lastDay));
+
+        uniqueDonationRecordList.remove(editedAlice);
+        assertEquals(1, columns.size());
+        assertEquals(400, columns.getTotalBloodVolume(firstDay, lastDay));
+
+        uniqueDonationRecordList.setDonationRecords(getTypicalDonationRecords());
+        assertEquals(4, columns.getDonationCount(firstDay, lastDay));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> uniqueDonationRecordList
@@ -0,0 +1,101 @@
+package bloodnet.model.person;
+
+import static bloodnet.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class AgeRangeTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AgeRange(null));
+    }
+
+    @Test
+    public void constructor_invalidAgeRange_throwsIllegalArgumentException() {
+        String invalidAgeRange = "";
+        assertThrows(IllegalArgumentException.class, () -> new AgeRange(invalidAgeRange));
+    }
+
+    @Test
+    public void isValidAgeRange() {
+        // null age range
+        assertThrows(NullPointerException.class, () -> AgeRange.isValidAgeRange(null));
+
+        // invalid age ranges
+        assertFalse(AgeRange.isValidAgeRange("")); // empty string
+        assertFalse(AgeRange.isValidAgeRange(" ")); // spaces only
+        assertFalse(AgeRange.isValidAgeRange("18")); // single age
+        assertFalse(AgeRange.isValidAgeRange("18-")); // missing maximum age
+        assertFalse(AgeRange.isValidAgeRange("-1-18")); // negative age
+        assertFalse(AgeRange.isValidAgeRange("25-18")); // minimum age more than maximum age
+        assertFalse(AgeRange.isValidAgeRange("18-131")); // maximum age too large
+        assertFalse(AgeRange.isValidAgeRange("18 - 25")); // spaces around dash
+
+        // valid age ranges
+        assertTrue(AgeRange.isValidAgeRange("18-25"));
+        assertTrue(AgeRange.isValidAgeRange("30-30")); // single age
+        assertTrue(AgeRange.isValidAgeRange("0-130")); // every age
+    }
+
+    @Test
+    public void contains() {
+        AgeRange ageRange = new AgeRange("18-25");
+        LocalDate date = LocalDate.of(2025, 6, 15);
+
+        // 18th birthday on the date -> returns true
+        assertTrue(ageRange.contains(LocalDate.of(2007, 6, 15), date));
+
+        // 18th birthday the day after the date -> returns false
+        assertFalse(ageRange.contains(LocalDate.of(2007, 6, 16), date));
+
+        // last day before the 26th birthday -> returns true
+        assertTrue(ageRange.contains(LocalDate.of(1999, 6, 16), date));
+
+        // 26th birthday on the date -> returns false
+        assertFalse(ageRange.contains(LocalDate.of(1999, 6, 15), date));
+    }
+
+    @Test
+    public void contains_bornOnLeapDay_turnsOlderOnFirstMarch() {
+        AgeRange ageRange = new AgeRange("18-18");
+        LocalDate dateOfBirth = LocalDate.of(2004, 2, 29);
+
+        assertFalse(ageRange.contains(dateOfBirth, LocalDate.of(2022, 2, 28)));
+        assertTrue(ageRange.contains(dateOfBirth, LocalDate.of(2022, 3, 1)));
+        assertTrue(ageRange.contains(dateOfBirth, LocalDate.of(2023, 2, 28)));
+        assertFalse(ageRange.contains(dateOfBirth, LocalDate.of(2023, 3, 1)));
+    }
+
+    @Test
+    public void equals() {
+        AgeRange ageRange = new AgeRange("18-25");
+
+        // same values -> returns true
+        assertTrue(ageRange.equals(new AgeRange("18-25")));
+        assertTrue(ageRange.equals(new AgeRange("018-025")));
+
+        // same object -> returns true
+        assertTrue(ageRange.equals(ageRange));
+
+        // null -> returns false
+        assertFalse(ageRange.equals(null));
+
+        // different types -> returns false
+        assertFalse(ageRange.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(ageRange.equals(new AgeRange("18-26")));
+        assertFalse(ageRange.equals(new AgeRange("17-25")));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("18-25", new AgeRange("018-25").toString());
+    }
+}
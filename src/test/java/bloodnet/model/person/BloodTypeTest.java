@@ -1,7 +1,9 @@
 package bloodnet.model.person;
 
 import static bloodnet.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -52,5 +54,22 @@ public class BloodTypeTest {
 
         // different values -> returns false
         assertFalse(bloodType.equals(new BloodType("B-")));
+
+        // different case -> returns true
+        assertTrue(bloodType.equals(new BloodType("a+")));
+    }
+
+    @Test
+    public void getKind() {
+        assertEquals(BloodType.Kind.AB_NEGATIVE, new BloodType("ab-").getKind());
+        assertEquals("AB-", new BloodType("ab-").value);
+        assertEquals(BloodType.Kind.O_POSITIVE.ordinal(), new BloodType("O+").ordinal());
+    }
+
+    @Test
+    public void of_sameBloodType_returnsSharedInstance() {
+        assertSame(BloodType.of("AB-"), BloodType.of("ab-"));
+        assertEquals(new BloodType("AB-"), BloodType.of("AB-"));
+        assertThrows(IllegalArgumentException.class, () -> BloodType.of("C+"));
     }
 }
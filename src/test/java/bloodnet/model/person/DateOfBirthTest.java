@@ -5,6 +5,7 @@ import static java.time.format.ResolverStyle.STRICT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
@@ -98,4 +99,11 @@ public class DateOfBirthTest {
 
 
     }
+
+    @Test
+    public void of_sameDate_returnsSharedInstance() {
+        assertSame(DateOfBirth.of("17-03-2000"), DateOfBirth.of("17-03-2000"));
+        assertEquals(new DateOfBirth("17-03-2000"), DateOfBirth.of("17-03-2000"));
+        assertThrows(IllegalArgumentException.class, () -> DateOfBirth.of("17-13-2000"));
+    }
 }
@@ -0,0 +1,78 @@
+package bloodnet.model.person;
+
+import static bloodnet.model.person.EligibilityRules.NO_DONATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.testutil.PersonBuilder;
+
+public class EligibilityRulesTest {
+
+    private static final Person PERSON = new PersonBuilder().withDateOfBirth("15-06-1990").build();
+
+    @Test
+    public void person_cachesAgeLimitsAsEpochDays() {
+        assertEquals(LocalDate.of(2006, 6, 15).toEpochDay(), PERSON.getMinimumAgeEpochDay());
+        assertEquals(LocalDate.of(2051, 6, 15).toEpochDay(), PERSON.getFirstTimeDonorAgeLimitEpochDay());
+        assertEquals(LocalDate.of(2056, 6, 15).toEpochDay(), PERSON.getNonRecentDonorAgeLimitEpochDay());
+    }
+
+    @Test
+    public void person_bornOnLeapDay_turnsSixteenOnFirstMarch() {
+        Person person = new PersonBuilder().withDateOfBirth("29-02-2000").build();
+        assertEquals(LocalDate.of(2016, 2, 29).toEpochDay(), person.getMinimumAgeEpochDay());
+
+        // 2100 is not a leap year
+        assertEquals(LocalDate.of(2100, 3, 1), EligibilityRules.getMinimumAgeDate(LocalDate.of(2084, 2, 29)));
+    }
+
+    @Test
+    public void getLapseCutoffEpochDay() {
+        assertEquals(LocalDate.of(2022, 5, 10).toEpochDay(),
+                EligibilityRules.getLapseCutoffEpochDay(LocalDate.of(2025, 5, 10)));
+
+        // a donation on 29 February 2020 is 3 years old on 28 February 2023
+        assertEquals(LocalDate.of(2020, 2, 29).toEpochDay(),
+                EligibilityRules.getLapseCutoffEpochDay(LocalDate.of(2023, 2, 28)));
+    }
+
+    @Test
+    public void isEligible_firstTimeDonor() {
+        assertFalse(isEligible(LocalDate.of(2006, 6, 14), NO_DONATION, NO_DONATION, NO_DONATION));
+        assertTrue(isEligible(LocalDate.of(2006, 6, 15), NO_DONATION, NO_DONATION, NO_DONATION));
+        assertTrue(isEligible(LocalDate.of(2051, 6, 14), NO_DONATION, NO_DONATION, NO_DONATION));
+        assertFalse(isEligible(LocalDate.of(2051, 6, 15), NO_DONATION, NO_DONATION, NO_DONATION));
+    }
+
+    @Test
+    public void isEligible_neighbouringDonations() {
+        LocalDate date = LocalDate.of(2020, 1, 1);
+        long cutoff = EligibilityRules.getLapseCutoffEpochDay(date);
+        long day = date.toEpochDay();
+        assertTrue(isEligible(date, cutoff, day - 84, day + 84));
+        assertFalse(isEligible(date, cutoff, day - 83, NO_DONATION));
+        assertFalse(isEligible(date, cutoff, NO_DONATION, day + 83));
+        assertFalse(isEligible(date, cutoff, day, day));
+    }
+
+    @Test
+    public void isEligible_nonRecentDonor() {
+        LocalDate afterSixtySixthBirthday = LocalDate.of(2056, 6, 15);
+        long cutoff = EligibilityRules.getLapseCutoffEpochDay(afterSixtySixthBirthday);
+        assertTrue(isEligible(afterSixtySixthBirthday, cutoff, cutoff + 1, NO_DONATION));
+        assertFalse(isEligible(afterSixtySixthBirthday, cutoff, cutoff, NO_DONATION));
+
+        LocalDate beforeSixtySixthBirthday = afterSixtySixthBirthday.minusDays(1);
+        cutoff = EligibilityRules.getLapseCutoffEpochDay(beforeSixtySixthBirthday);
+        assertTrue(isEligible(beforeSixtySixthBirthday, cutoff, cutoff - 1000, NO_DONATION));
+    }
+
+    private static boolean isEligible(LocalDate date, long lapseCutoffEpochDay, long predecessor, long successor) {
+        return EligibilityRules.isEligible(PERSON, date.toEpochDay(), lapseCutoffEpochDay, predecessor, successor);
+    }
+}
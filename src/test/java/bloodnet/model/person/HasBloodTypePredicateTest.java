@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -49,6 +50,10 @@ public class HasBloodTypePredicateTest {
         List<String> multipleBloodTypesProvided = Arrays.asList("AB+", "O+", "A+");
         predicate = new HasBloodTypePredicate(multipleBloodTypesProvided);
         assertTrue(predicate.test(new PersonBuilder().withBloodType("O+").build()));
+
+        // Blood type in a different case
+        predicate = new HasBloodTypePredicate(Collections.singletonList("ab-"));
+        assertTrue(predicate.test(new PersonBuilder().withBloodType("AB-").build()));
     }
 
     @Test
@@ -67,6 +72,13 @@ public class HasBloodTypePredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withBloodType("O-").build()));
     }
 
+    @Test
+    public void getBloodTypeKinds_invalidBloodTypesIgnored() {
+        HasBloodTypePredicate predicate = new HasBloodTypePredicate(Arrays.asList("o-", "C+", "A+", "O-"));
+        assertEquals(EnumSet.of(BloodType.Kind.A_POSITIVE, BloodType.Kind.O_NEGATIVE),
+                predicate.getBloodTypeKinds());
+    }
+
     @Test
     public void toStringMethod() {
         List<String> bloodTypesProvided = List.of("bloodTypeOne", "bloodTypeTwo");
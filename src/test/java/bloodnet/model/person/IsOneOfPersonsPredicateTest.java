@@ -0,0 +1,62 @@
+package bloodnet.model.person;
+
+import static bloodnet.testutil.TypicalPersons.ALICE;
+import static bloodnet.testutil.TypicalPersons.BENSON;
+import static bloodnet.testutil.TypicalPersons.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.testutil.PersonBuilder;
+
+public class IsOneOfPersonsPredicateTest {
+
+    @Test
+    public void equals() {
+        IsOneOfPersonsPredicate firstPredicate = new IsOneOfPersonsPredicate(List.of(ALICE));
+        IsOneOfPersonsPredicate secondPredicate = new IsOneOfPersonsPredicate(List.of(ALICE, BENSON));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new IsOneOfPersonsPredicate(List.of(new PersonBuilder(ALICE).build()))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different persons -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_personGiven_returnsTrue() {
+        IsOneOfPersonsPredicate predicate = new IsOneOfPersonsPredicate(List.of(ALICE, BENSON));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+
+        // Same person after being edited
+        assertTrue(predicate.test(new PersonBuilder(ALICE).withName("Alice Tan").build()));
+    }
+
+    @Test
+    public void test_personNotGiven_returnsFalse() {
+        assertFalse(new IsOneOfPersonsPredicate(List.of()).test(ALICE));
+        assertFalse(new IsOneOfPersonsPredicate(List.of(ALICE, BENSON)).test(CARL));
+    }
+
+    @Test
+    public void toStringMethod() {
+        IsOneOfPersonsPredicate predicate = new IsOneOfPersonsPredicate(List.of(ALICE));
+
+        String expected = IsOneOfPersonsPredicate.class.getCanonicalName() + "{ids=[" + ALICE.getId() + "]}";
+        assertEquals(expected, predicate.toString());
+    }
+}
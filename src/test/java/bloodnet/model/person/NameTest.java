@@ -1,9 +1,12 @@
 package bloodnet.model.person;
 
 import static bloodnet.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -38,6 +41,13 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void toPhoneticCodes() {
+        assertEquals(Set.of("J500", "T500"), Name.toPhoneticCodes("Jon  Tan"));
+        assertEquals(Set.of("D540", "M600"), Name.toPhoneticCodes("Daniel Meier Meyer"));
+        assertEquals(Set.of("P360", "T000", "N300"), Name.toPhoneticCodes("peter the 2nd"));
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
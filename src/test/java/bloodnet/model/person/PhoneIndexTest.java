@@ -0,0 +1,73 @@
+package bloodnet.model.person;
+
+import static bloodnet.testutil.Assert.assertThrows;
+import static bloodnet.testutil.TypicalPersons.ALICE;
+import static bloodnet.testutil.TypicalPersons.BENSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import bloodnet.testutil.PersonBuilder;
+
+public class PhoneIndexTest {
+
+    private final PhoneIndex phoneIndex = new PhoneIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> phoneIndex.add(null));
+    }
+
+    @Test
+    public void get_phoneNotInIndex_returnsEmptyList() {
+        assertTrue(phoneIndex.get(ALICE.getPhone().toInt()).isEmpty());
+        assertTrue(phoneIndex.get(0).isEmpty());
+    }
+
+    @Test
+    public void get_personsSharingPhone_returnsThemInOrderAdded() {
+        Person bensonWithAlicePhone = new PersonBuilder(BENSON).withPhone(ALICE.getPhone().value).build();
+        phoneIndex.add(ALICE);
+        phoneIndex.add(bensonWithAlicePhone);
+        assertEquals(List.of(ALICE, bensonWithAlicePhone), phoneIndex.get(ALICE.getPhone().toInt()));
+
+        phoneIndex.remove(ALICE);
+        assertEquals(List.of(bensonWithAlicePhone), phoneIndex.get(ALICE.getPhone().toInt()));
+        phoneIndex.remove(bensonWithAlicePhone);
+        assertTrue(phoneIndex.get(ALICE.getPhone().toInt()).isEmpty());
+    }
+
+    @Test
+    public void remove_personNotInIndex_doesNothing() {
+        phoneIndex.add(ALICE);
+        phoneIndex.remove(BENSON);
+        phoneIndex.remove(new PersonBuilder(BENSON).withPhone(ALICE.getPhone().value).build());
+        assertEquals(List.of(ALICE), phoneIndex.get(ALICE.getPhone().toInt()));
+    }
+
+    @Test
+    public void addAndRemove_manyPhones_everyRemainingPhoneFound() {
+        // Enough phone numbers to resize the table several times and to form runs of occupied slots.
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            persons.add(new PersonBuilder(ALICE).withPhone(String.valueOf(90000000 + i * 7)).build());
+        }
+        persons.forEach(phoneIndex::add);
+        for (int i = 0; i < persons.size(); i += 3) {
+            phoneIndex.remove(persons.get(i));
+        }
+
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            List<Person> expected = i % 3 == 0 ? List.of() : List.of(person);
+            assertEquals(expected, phoneIndex.get(person.getPhone().toInt()));
+        }
+
+        phoneIndex.clear();
+        assertTrue(phoneIndex.get(persons.get(1).getPhone().toInt()).isEmpty());
+    }
+}
@@ -1,6 +1,7 @@
 package bloodnet.model.person;
 
 import static bloodnet.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -40,6 +41,12 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("93121534"));
     }
 
+    @Test
+    public void toInt() {
+        assertEquals(91145678, new Phone("91145678").toInt());
+        assertEquals(30000000, new Phone("30000000").toInt());
+    }
+
     @Test
     public void equals() {
         Phone phone = new Phone("99912345");
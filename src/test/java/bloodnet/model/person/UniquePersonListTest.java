@@ -2,12 +2,15 @@ package bloodnet.model.person;
 
 import static bloodnet.logic.commands.CommandTestUtil.VALID_BLOOD_TYPE_BOB;
 import static bloodnet.logic.commands.CommandTestUtil.VALID_DATE_OF_BIRTH_BOB;
+import static bloodnet.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static bloodnet.testutil.Assert.assertThrows;
 import static bloodnet.testutil.TypicalPersons.ALICE;
 import static bloodnet.testutil.TypicalPersons.BOB;
+import static bloodnet.testutil.TypicalPersons.getTypicalPersons;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -48,6 +51,35 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSamePhoneButDifferentName_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        assertFalse(uniquePersonList.contains(new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build()));
+    }
+
+    @Test
+    public void getByPhone_personsSharingPhone_returnsAllOfThem() {
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(bobWithAlicePhone);
+        assertEquals(Arrays.asList(ALICE, bobWithAlicePhone), uniquePersonList.getByPhone(ALICE.getPhone()));
+        assertEquals(Collections.emptyList(), uniquePersonList.getByPhone(BOB.getPhone()));
+
+        uniquePersonList.remove(ALICE);
+        assertEquals(Collections.singletonList(bobWithAlicePhone), uniquePersonList.getByPhone(ALICE.getPhone()));
+    }
+
+    @Test
+    public void getByEmail_editedEmail_updatesLookup() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.getByEmail(ALICE.getEmail()));
+
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Collections.emptyList(), uniquePersonList.getByEmail(ALICE.getEmail()));
+        assertEquals(Collections.singletonList(editedAlice), uniquePersonList.getByEmail(editedAlice.getEmail()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -104,6 +136,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesContains() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -129,6 +169,32 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_allowsReAdding() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void removeAndSetPerson_afterEarlierRemovals_actOnCorrectPositions() {
+        List<Person> persons = getTypicalPersons();
+        uniquePersonList.setPersons(persons);
+        uniquePersonList.remove(persons.get(1));
+        uniquePersonList.remove(persons.get(3));
+
+        Person editedLastPerson = new PersonBuilder(persons.get(6)).withEmail(VALID_EMAIL_BOB).build();
+        uniquePersonList.setPerson(persons.get(6), editedLastPerson);
+        uniquePersonList.remove(persons.get(4));
+        uniquePersonList.remove(new PersonBuilder(persons.get(0)).build());
+
+        assertEquals(Arrays.asList(persons.get(2), persons.get(5), editedLastPerson),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(persons.get(6)));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -156,6 +222,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -164,6 +232,32 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_exceptionHasDuplicateGroups() {
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE);
+        try {
+            uniquePersonList.setPersons(listWithDuplicatePersons);
+            fail();
+        } catch (DuplicatePersonException e) {
+            assertEquals(List.of(List.of(ALICE, ALICE)), e.getDuplicateGroups());
+        }
+    }
+
+    @Test
+    public void findDuplicateGroups_uniquePersons_returnsEmptyList() {
+        assertTrue(UniquePersonList.findDuplicateGroups(Arrays.asList(ALICE, BOB)).isEmpty());
+    }
+
+    @Test
+    public void findDuplicateGroups_duplicatePersons_returnsEveryGroup() {
+        Person editedAlice = new PersonBuilder(ALICE).withBloodType(VALID_BLOOD_TYPE_BOB).build();
+        List<Person> persons = Arrays.asList(ALICE, BOB, editedAlice, BOB, ALICE);
+        List<List<Person>> expectedGroups = Arrays.asList(
+                Arrays.asList(ALICE, editedAlice, ALICE),
+                Arrays.asList(BOB, BOB));
+        assertEquals(expectedGroups, UniquePersonList.findDuplicateGroups(persons));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
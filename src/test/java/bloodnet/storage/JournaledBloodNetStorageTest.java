@@ -0,0 +1,189 @@
+package bloodnet.storage;
+
+import static bloodnet.testutil.Assert.assertThrows;
+import static bloodnet.testutil.TypicalDonationRecords.ALICE_DONATION_RECORD;
+import static bloodnet.testutil.TypicalDonationRecords.getTypicalBloodNet;
+import static bloodnet.testutil.TypicalPersons.BENSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import bloodnet.commons.exceptions.DataLoadingException;
+import bloodnet.commons.util.FileUtil;
+import bloodnet.model.BloodNet;
+import bloodnet.storage.JsonBloodNetWriterTest.FailingBloodNet;
+import bloodnet.testutil.PersonBuilder;
+
+public class JournaledBloodNetStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readBloodNet_missingFiles_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        assertFalse(new JournaledBloodNetStorage(filePath).readBloodNet().isPresent());
+    }
+
+    @Test
+    public void saveBloodNet_changes_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        BloodNet original = getTypicalBloodNet();
+        JournaledBloodNetStorage storage = new JournaledBloodNetStorage(filePath);
+
+        // The first save writes a snapshot
+        storage.saveBloodNet(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        // Later saves only journal the changes
+        original.addPerson(new PersonBuilder().withName("Hoon Meier").withPhone("84842424").build());
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        original.removeDonationRecord(ALICE_DONATION_RECORD);
+        storage.saveBloodNet(original);
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        // Saving without changes writes nothing
+        storage.saveBloodNet(original);
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        // The journal is replayed over the snapshot
+        BloodNet readBack = new BloodNet(new JournaledBloodNetStorage(filePath).readBloodNet().get());
+        assertEquals(original, readBack);
+    }
+
+    @Test
+    public void saveBloodNet_copyOfReadBloodNet_changesAppendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        new JournaledBloodNetStorage(filePath).saveBloodNet(getTypicalBloodNet());
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        // The data read is copied into the model, which records its changes from the version read
+        JournaledBloodNetStorage storage = new JournaledBloodNetStorage(filePath);
+        BloodNet copy = new BloodNet(storage.readBloodNet().get());
+        copy.removeDonationRecord(ALICE_DONATION_RECORD);
+        storage.saveBloodNet(copy);
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(copy, new BloodNet(new JournaledBloodNetStorage(filePath).readBloodNet().get()));
+
+        // Data replaced as a whole is written as a new snapshot
+        copy.setPersons(List.of(BENSON));
+        copy.setDonationRecords(List.of());
+        storage.saveBloodNet(copy);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(copy, new BloodNet(new JournaledBloodNetStorage(filePath).readBloodNet().get()));
+    }
+
+    @Test
+    public void saveBloodNet_journalFull_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        BloodNet original = getTypicalBloodNet();
+        JournaledBloodNetStorage storage = new JournaledBloodNetStorage(filePath, 1);
+        storage.saveBloodNet(original);
+
+        original.removeDonationRecord(ALICE_DONATION_RECORD);
+        storage.saveBloodNet(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        storage.saveBloodNet(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new BloodNet(new JsonBloodNetStorage(filePath).readBloodNet().get()));
+    }
+
+    @Test
+    public void readBloodNet_journalLeftAfterSnapshot_journalNotReplayed() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        BloodNet original = getTypicalBloodNet();
+        JournaledBloodNetStorage storage = new JournaledBloodNetStorage(filePath, 1);
+        storage.saveBloodNet(original);
+        original.removeDonationRecord(ALICE_DONATION_RECORD);
+        storage.saveBloodNet(original);
+        String journal = FileUtil.readFromFile(storage.getJournalFilePath());
+
+        // A save that stops after writing the new snapshot leaves the journal it replaces behind
+        original.addDonationRecord(ALICE_DONATION_RECORD);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        storage.saveBloodNet(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        FileUtil.writeToFile(storage.getJournalFilePath(), journal);
+
+        JournaledBloodNetStorage otherStorage = new JournaledBloodNetStorage(filePath);
+        BloodNet copy = new BloodNet(otherStorage.readBloodNet().get());
+        assertEquals(original, copy);
+
+        // Changes journaled after the left over entries are still replayed
+        copy.removeDonationRecord(ALICE_DONATION_RECORD);
+        otherStorage.saveBloodNet(copy);
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(copy, new BloodNet(new JournaledBloodNetStorage(filePath).readBloodNet().get()));
+    }
+
+    @Test
+    public void saveBloodNet_snapshotFails_journalKept() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        BloodNet original = getTypicalBloodNet();
+        JournaledBloodNetStorage storage = new JournaledBloodNetStorage(filePath);
+        storage.saveBloodNet(original);
+        original.removeDonationRecord(ALICE_DONATION_RECORD);
+        storage.saveBloodNet(original);
+
+        JournaledBloodNetStorage otherStorage = new JournaledBloodNetStorage(filePath);
+        assertThrows(UncheckedIOException.class, () -> otherStorage.saveBloodNet(new FailingBloodNet(original)));
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new BloodNet(new JournaledBloodNetStorage(filePath).readBloodNet().get()));
+    }
+
+    @Test
+    public void readBloodNet_incompleteLastEntry_entryIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        BloodNet original = getTypicalBloodNet();
+        JournaledBloodNetStorage storage = new JournaledBloodNetStorage(filePath);
+        storage.saveBloodNet(original);
+        original.removeDonationRecord(ALICE_DONATION_RECORD);
+        storage.saveBloodNet(original);
+
+        FileUtil.appendToFile(storage.getJournalFilePath(), "{\"operation\":\"PUT_PER");
+        assertEquals(original, new BloodNet(new JournaledBloodNetStorage(filePath).readBloodNet().get()));
+    }
+
+    @Test
+    public void readBloodNet_invalidEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        BloodNet original = getTypicalBloodNet();
+        JournaledBloodNetStorage storage = new JournaledBloodNetStorage(filePath);
+        storage.saveBloodNet(original);
+
+        FileUtil.appendToFile(storage.getJournalFilePath(), "not json" + System.lineSeparator());
+        original.removeDonationRecord(ALICE_DONATION_RECORD);
+        storage.saveBloodNet(original);
+        assertThrows(DataLoadingException.class, () -> new JournaledBloodNetStorage(filePath).readBloodNet());
+    }
+
+    @Test
+    public void readBloodNet_invalidEntryId_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        JournaledBloodNetStorage storage = new JournaledBloodNetStorage(filePath);
+        storage.saveBloodNet(getTypicalBloodNet());
+
+        FileUtil.appendToFile(storage.getJournalFilePath(),
+                "{\"generation\":1,\"operation\":\"REMOVE_PERSON\",\"id\":\"not an id\"}" + System.lineSeparator());
+        assertThrows(DataLoadingException.class, () -> new JournaledBloodNetStorage(filePath).readBloodNet());
+    }
+
+    @Test
+    public void saveBloodNet_nullBloodNet_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        assertThrows(NullPointerException.class, () -> new JournaledBloodNetStorage(filePath).saveBloodNet(null));
+    }
+}
@@ -0,0 +1,85 @@
+package bloodnet.storage;
+
+import static bloodnet.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import bloodnet.commons.exceptions.IllegalValueException;
+import bloodnet.commons.util.FileUtil;
+import bloodnet.testutil.TypicalPersons;
+
+public class JsonBloodNetReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableBloodNetTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsBloodNet.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonBloodNet.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        JsonBloodNetReader reader = new JsonBloodNetReader();
+        reader.read(TYPICAL_PERSONS_FILE);
+        assertEquals(TypicalPersons.getTypicalPersons(), reader.getPersons());
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> new JsonBloodNetReader().read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_otherFields_skipped() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        FileUtil.writeToFile(filePath,
+                "{\"other\": {\"persons\": [1, 2]}, \"persons\": [], \"donationRecords\": null}");
+
+        JsonBloodNetReader reader = new JsonBloodNetReader();
+        reader.read(filePath);
+        assertTrue(reader.getPersons().isEmpty());
+        assertTrue(reader.getDonationRecords().isEmpty());
+    }
+
+    @Test
+    public void read_generation_success() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        JsonBloodNetReader reader = new JsonBloodNetReader();
+        reader.read(TYPICAL_PERSONS_FILE);
+        assertEquals(0, reader.getGeneration());
+
+        new JsonBloodNetWriter(false).write(TypicalPersons.getTypicalBloodNet(), filePath, 3);
+        reader = new JsonBloodNetReader();
+        reader.read(filePath);
+        assertEquals(3, reader.getGeneration());
+        assertEquals(TypicalPersons.getTypicalPersons(), reader.getPersons());
+    }
+
+    @Test
+    public void read_notJsonObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        FileUtil.writeToFile(filePath, "[]");
+        assertThrows(IOException.class, () -> new JsonBloodNetReader().read(filePath));
+    }
+
+    @Test
+    public void read_personsNotArray_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        FileUtil.writeToFile(filePath, "{\"persons\": {}}");
+        assertThrows(IOException.class, () -> new JsonBloodNetReader().read(filePath));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        FileUtil.writeToFile(filePath, "{\"persons\": [");
+        assertThrows(IOException.class, () -> new JsonBloodNetReader().read(filePath));
+    }
+}
@@ -0,0 +1,87 @@
+package bloodnet.storage;
+
+import static bloodnet.testutil.Assert.assertThrows;
+import static bloodnet.testutil.TypicalDonationRecords.getTypicalBloodNet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import bloodnet.commons.util.FileUtil;
+import bloodnet.model.BloodNet;
+import bloodnet.model.ReadOnlyBloodNet;
+import bloodnet.model.donationrecord.DonationRecord;
+import javafx.collections.ObservableList;
+
+public class JsonBloodNetWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_notPrettyPrinted_readBackWithoutLineBreaks() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        BloodNet original = getTypicalBloodNet();
+        new JsonBloodNetWriter(false).write(original, filePath);
+
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new BloodNet(new JsonBloodNetStorage(filePath).readBloodNet().get()));
+    }
+
+    @Test
+    public void write_prettyPrinted_readBackWithLineBreaks() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        BloodNet original = getTypicalBloodNet();
+        new JsonBloodNetWriter(true).write(original, filePath);
+
+        assertTrue(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new BloodNet(new JsonBloodNetStorage(filePath).readBloodNet().get()));
+    }
+
+    @Test
+    public void write_emptyBloodNet_readBackEmpty() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        new JsonBloodNetWriter(false).write(new BloodNet(), filePath);
+        assertEquals(new BloodNet(), new BloodNet(new JsonBloodNetStorage(filePath).readBloodNet().get()));
+    }
+
+    @Test
+    public void write_failsPartway_existingFileKept() throws Exception {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        new JsonBloodNetWriter(false).write(getTypicalBloodNet(), filePath);
+        String contents = FileUtil.readFromFile(filePath);
+
+        JsonBloodNetWriter writer = new JsonBloodNetWriter(false);
+        assertThrows(UncheckedIOException.class, () -> writer.write(new FailingBloodNet(new BloodNet()), filePath));
+        assertEquals(contents, FileUtil.readFromFile(filePath));
+        assertFalse(Files.exists(filePath.resolveSibling(filePath.getFileName()
+                + JsonBloodNetWriter.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void write_nullBloodNet_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempBloodNet.json");
+        assertThrows(NullPointerException.class, () -> new JsonBloodNetWriter(false).write(null, filePath));
+    }
+
+    /**
+     * A BloodNet whose donation records cannot be read, so that writing it fails after its persons are written.
+     */
+    static class FailingBloodNet extends BloodNet {
+        FailingBloodNet(ReadOnlyBloodNet toBeCopied) {
+            super(toBeCopied);
+        }
+
+        @Override
+        public ObservableList<DonationRecord> getDonationRecordList() {
+            throw new UncheckedIOException(new IOException("Disk full"));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package bloodnet.storage;
 
 import static bloodnet.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -11,6 +12,8 @@ import org.junit.jupiter.api.Test;
 import bloodnet.commons.exceptions.IllegalValueException;
 import bloodnet.commons.util.JsonUtil;
 import bloodnet.model.BloodNet;
+import bloodnet.model.donationrecord.DonationRecord;
+import bloodnet.testutil.TypicalDonationRecords;
 import bloodnet.testutil.TypicalPersons;
 
 public class JsonSerializableBloodNetTest {
@@ -19,6 +22,9 @@ public class JsonSerializableBloodNetTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsBloodNet.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonBloodNet.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonBloodNet.json");
+    private static final Path DUPLICATE_DONATION_RECORD_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateDonationRecordBloodNet.json");
+    private static final Path MISSING_DONOR_FILE = TEST_DATA_FOLDER.resolve("missingDonorBloodNet.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +50,29 @@ public class JsonSerializableBloodNetTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateDonationRecords_throwsIllegalValueException() throws Exception {
+        JsonSerializableBloodNet dataFromFile = JsonUtil.readJsonFile(DUPLICATE_DONATION_RECORD_FILE,
+                JsonSerializableBloodNet.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableBloodNet.MESSAGE_DUPLICATE_DONATION_RECORD,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_missingDonor_throwsIllegalValueException() throws Exception {
+        JsonSerializableBloodNet dataFromFile = JsonUtil.readJsonFile(MISSING_DONOR_FILE,
+                JsonSerializableBloodNet.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableBloodNet.MESSAGE_MISSING_DONOR,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_donationRecords_shareDonorIds() throws Exception {
+        BloodNet bloodNet = new JsonSerializableBloodNet(TypicalDonationRecords.getTypicalBloodNet()).toModelType();
+        for (DonationRecord donationRecord : bloodNet.getDonationRecordList()) {
+            assertSame(bloodNet.getPersonById(donationRecord.getPersonId()).get().getId(),
+                    donationRecord.getPersonId());
+        }
+    }
+
 }
@@ -31,7 +31,7 @@ public class DonationRecordUtil {
         descriptor.getBloodVolume().ifPresent(bloodVolume -> sb.append(PREFIX_BLOOD_VOLUME)
                 .append(bloodVolume.toString()).append(" "));
         descriptor.getDonationDate().ifPresent(donationDate -> sb.append(PREFIX_DONATION_DATE)
-                .append(donationDate.value).append(" "));
+                .append(donationDate).append(" "));
         return sb.toString();
     }
 }